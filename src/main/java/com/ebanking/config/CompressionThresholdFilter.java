@@ -0,0 +1,261 @@
+package com.ebanking.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * Makes {@code server.compression.min-response-size} apply to responses written without a
+ * Content-Length.
+ *
+ * Tomcat only compares the threshold with a known Content-Length and compresses every other
+ * response, which includes all JSON that Jackson streams. This filter holds back the first
+ * {@code min-response-size} bytes of the body: a body that ends within them is sent with its
+ * Content-Length, so Tomcat leaves it uncompressed, and a longer one is passed on as it is
+ * written. Flushes are held back as well, except in asynchronous responses (the NDJSON and
+ * event streams), which are passed on as they are written.
+ */
+@Component
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    private final int threshold;
+
+    public CompressionThresholdFilter(@Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        this.threshold = (int) minResponseSize.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding == null || !acceptEncoding.contains("gzip");
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        // Error responses are written in an error dispatch and are usually below the threshold
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ThresholdResponse thresholdResponse = new ThresholdResponse(request, response, threshold);
+        filterChain.doFilter(request, thresholdResponse);
+        if (request.isAsyncStarted()) {
+            thresholdResponse.passThrough();
+        } else {
+            thresholdResponse.finish();
+        }
+    }
+
+    private static final class ThresholdResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final ThresholdOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean contentLengthSet;
+
+        ThresholdResponse(HttpServletRequest request, HttpServletResponse response, int threshold) {
+            super(response);
+            this.request = request;
+            this.outputStream = new ThresholdOutputStream(response, threshold);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            contentLengthSet = true;
+            super.setContentLength(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            contentLengthSet = true;
+            super.setContentLengthLong(len);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            contentLengthSet |= HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+            super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            contentLengthSet |= HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+            super.addHeader(name, value);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            // Spring flushes after every response body; only a stream needs it to commit
+            if (request.isAsyncStarted() || outputStream.buffered() < 0) {
+                passThrough();
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            outputStream.discard();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            outputStream.discard();
+            contentLengthSet = false;
+            super.reset();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            outputStream.discard();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            outputStream.discard();
+            super.sendError(sc);
+        }
+
+        void passThrough() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            outputStream.passThrough();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            int length = outputStream.buffered();
+            if (length > 0 && !contentLengthSet && !isCommitted()) {
+                super.setContentLength(length);
+            }
+            outputStream.passThrough();
+        }
+    }
+
+    /**
+     * Buffers up to the threshold, then writes through to the response. Synchronized because
+     * an asynchronous response can be written by another thread while the request thread
+     * switches it to pass-through.
+     */
+    private static final class ThresholdOutputStream extends ServletOutputStream {
+
+        private final HttpServletResponse response;
+        private byte[] buffer;
+        private int count;
+        private ServletOutputStream target;
+
+        ThresholdOutputStream(HttpServletResponse response, int threshold) {
+            this.response = response;
+            this.buffer = new byte[Math.max(threshold, 1)];
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            if (target == null && count < buffer.length) {
+                buffer[count++] = (byte) b;
+                return;
+            }
+            passThrough();
+            target.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            if (target == null && count + len <= buffer.length) {
+                System.arraycopy(b, off, buffer, count, len);
+                count += len;
+                return;
+            }
+            passThrough();
+            target.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            // Jackson flushes after every body; committing here would leave the length unknown
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (target != null) {
+                target.close();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return target == null || target.isReady();
+        }
+
+        @Override
+        public synchronized void setWriteListener(WriteListener writeListener) {
+            try {
+                passThrough();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            target.setWriteListener(writeListener);
+        }
+
+        synchronized int buffered() {
+            return target == null ? count : -1;
+        }
+
+        synchronized void discard() {
+            count = 0;
+        }
+
+        synchronized void passThrough() throws IOException {
+            if (target != null) {
+                return;
+            }
+            target = response.getOutputStream();
+            if (count > 0) {
+                target.write(buffer, 0, count);
+            }
+            buffer = null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ebanking.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Data source configuration.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public static HikariPoolSizingPostProcessor hikariPoolSizingPostProcessor(Environment environment) {
+        return new HikariPoolSizingPostProcessor(environment);
+    }
+}
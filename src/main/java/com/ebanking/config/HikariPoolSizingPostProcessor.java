@@ -0,0 +1,56 @@
+package com.ebanking.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes the Hikari pool from the number of threads that can hold a connection at once.
+ *
+ * The pool gets one connection per Tomcat request thread, per Kafka listener thread and
+ * per customer overview worker thread, plus a small reserve for schedulers and health checks. It is created fixed-size, so
+ * connections are never opened on the request path. An explicit
+ * {@code spring.datasource.hikari.maximum-pool-size} always wins.
+ *
+ * With virtual threads Tomcat no longer caps concurrent requests at its thread count, so
+ * the pool becomes the limit on concurrent database work and {@code connection-timeout}
+ * decides how long a request may queue for it.
+ */
+@Slf4j
+public class HikariPoolSizingPostProcessor implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public HikariPoolSizingPostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource dataSource)
+                || !environment.getProperty("app.datasource.pool.derive-size", Boolean.class, false)
+                || environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) {
+            return bean;
+        }
+
+        int size = derivePoolSize();
+        dataSource.setMaximumPoolSize(size);
+        dataSource.setMinimumIdle(size);
+        log.info("Derived Hikari pool size {} for pool '{}'", size, dataSource.getPoolName());
+        return bean;
+    }
+
+    /**
+     * Gets the derived pool size.
+     *
+     * @return Tomcat max threads + Kafka listener concurrency + overview threads + reserve
+     */
+    public int derivePoolSize() {
+        int tomcatThreads = environment.getProperty("server.tomcat.threads.max", Integer.class, 200);
+        int listenerThreads = environment.getProperty("spring.kafka.listener.concurrency", Integer.class, 1);
+        int overviewThreads = environment.getProperty("app.overview.threads", Integer.class, 0);
+        int reserve = environment.getProperty("app.datasource.pool.reserve", Integer.class, 2);
+        return tomcatThreads + listenerThreads + overviewThreads + reserve;
+    }
+}
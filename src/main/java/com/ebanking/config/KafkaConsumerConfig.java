@@ -3,6 +3,7 @@ package com.ebanking.config;
 import com.ebanking.dto.TransactionKafkaDto;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
@@ -18,6 +19,9 @@ import java.util.Map;
 @Configuration
 public class KafkaConsumerConfig {
 
+    @Value("${spring.kafka.listener.concurrency:1}")
+    private int concurrency;
+
     @Bean
     public ConsumerFactory<String, TransactionKafkaDto> transactionConsumerFactory() {
         JsonDeserializer<TransactionKafkaDto> deserializer = new JsonDeserializer<>(TransactionKafkaDto.class);
@@ -31,10 +35,13 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, TransactionKafkaDto> transactionKafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, TransactionKafkaDto> transactionKafkaListenerContainerFactory(
+            KafkaListenerFactoryCustomizer customizer) {
         ConcurrentKafkaListenerContainerFactory<String, TransactionKafkaDto> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(transactionConsumerFactory());
+        factory.setConcurrency(concurrency);
+        customizer.customize(factory);
         return factory;
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.ebanking.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings shared by the application's Kafka listener container factories.
+ *
+ * Boot only applies {@code spring.threads.virtual.enabled} to the listener factory it
+ * creates itself, and the factories in {@link KafkaConfig} and {@link KafkaConsumerConfig}
+ * replace it, so both are customized here.
+ */
+@Component
+public class KafkaListenerFactoryCustomizer {
+
+    private final boolean virtualThreads;
+    private final boolean autoStartup;
+
+    public KafkaListenerFactoryCustomizer(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            // False in the fast-start profile; KafkaListenerStarter starts the containers once the application is ready
+            @Value("${app.kafka.listener.auto-startup:true}") boolean autoStartup) {
+        this.virtualThreads = virtualThreads;
+        this.autoStartup = autoStartup;
+    }
+
+    public void customize(AbstractKafkaListenerContainerFactory<?, ?, ?> factory) {
+        factory.setAutoStartup(autoStartup);
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+    }
+}
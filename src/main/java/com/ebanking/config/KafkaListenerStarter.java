@@ -0,0 +1,61 @@
+package com.ebanking.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Starts the Kafka listener containers once the application is ready, when
+ * {@code app.kafka.listener.auto-startup} is false.
+ *
+ * Starting a container creates its consumers and waits for their threads, which otherwise
+ * happens during context refresh and delays the web server. The containers are started on
+ * a separate thread after {@code app.kafka.listener.start-delay}, so readiness is not held
+ * up either.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.kafka.listener.auto-startup", havingValue = "false")
+public class KafkaListenerStarter {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final Duration startDelay;
+
+    public KafkaListenerStarter(KafkaListenerEndpointRegistry registry,
+                                @Value("${app.kafka.listener.start-delay:0s}") Duration startDelay) {
+        this.registry = registry;
+        this.startDelay = startDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread.ofPlatform().name("kafka-listener-start").daemon().start(() -> {
+            try {
+                Thread.sleep(startDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            startListeners();
+        });
+    }
+
+    /**
+     * Starts every listener container that is not running.
+     */
+    public void startListeners() {
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            if (!container.isRunning()) {
+                container.start();
+                log.info("Started Kafka listener container {}", container.getListenerId());
+            }
+        }
+    }
+}
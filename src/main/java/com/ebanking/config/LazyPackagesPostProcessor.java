@@ -0,0 +1,69 @@
+package com.ebanking.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.Lifecycle;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Marks the beans defined in the packages of {@code app.startup.lazy-packages} lazy, so
+ * they are created on first use instead of during startup.
+ *
+ * Meant for infrastructure that is rarely on the request path, such as springdoc: its
+ * controllers are registered with the handler mappings by bean name and created on the
+ * first {@code /v3/api-docs} or {@code /swagger-ui} request. A bean is matched by its own
+ * class or by the configuration class declaring it. A lazy bean that an eager bean
+ * injects is still created with it, and lifecycle beans are left eager so they are started.
+ */
+@Slf4j
+public class LazyPackagesPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packages;
+
+    public LazyPackagesPostProcessor(Environment environment) {
+        String[] configured = environment.getProperty("app.startup.lazy-packages", String[].class);
+        this.packages = configured == null ? List.of() : Arrays.stream(configured)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (packages.isEmpty()) {
+            return;
+        }
+        int lazy = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.isLazyInit() || !definition.isSingleton() || definition.isAbstract()
+                    || !inPackages(sourceClassName(beanFactory, definition))) {
+                continue;
+            }
+            Class<?> type = beanFactory.getType(beanName, false);
+            if (type != null && Lifecycle.class.isAssignableFrom(type)) {
+                continue;
+            }
+            definition.setLazyInit(true);
+            lazy++;
+        }
+        log.info("Deferred initialization of {} beans in {}", lazy, packages);
+    }
+
+    private static String sourceClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+
+    private boolean inPackages(String className) {
+        return className != null && packages.stream().anyMatch(name -> className.startsWith(name + "."));
+    }
+}
@@ -0,0 +1,24 @@
+package com.ebanking.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Scheduler for the blocking JPA calls behind the streaming read API.
+ *
+ * The scheduler has its own thread cap, sized like the connection pool, so streams never
+ * have more blocking queries in flight than there are connections. Queries beyond the cap
+ * wait in the scheduler queue without holding a thread.
+ */
+@Configuration
+public class ReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler(@Value("${app.reactive.jpa.thread-cap:10}") int threadCap,
+                                  @Value("${app.reactive.jpa.queued-task-cap:100000}") int queuedTaskCap) {
+        return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "jpa-stream");
+    }
+}
@@ -0,0 +1,17 @@
+package com.ebanking.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Startup configuration, see the fast-start profile.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyPackagesPostProcessor lazyPackagesPostProcessor(Environment environment) {
+        return new LazyPackagesPostProcessor(environment);
+    }
+}
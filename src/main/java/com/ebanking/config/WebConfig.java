@@ -1,30 +1,66 @@
 package com.ebanking.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.Executors;
 
 /**
  * Web configuration for HTTP client operations.
  * 
- * Provides RestTemplate bean for external API calls.
+ * Provides RestTemplate bean for external API calls. With virtual threads enabled the
+ * template runs on the JDK HttpClient, which blocks without pinning the carrier thread.
+ * The non-blocking WebClient serves the streaming read API, where no thread may wait on
+ * the exchange-rate API.
  */
 @Configuration
 public class WebConfig {
 
+    @Value("${app.exchange-rate.api.base-url}")
+    private String exchangeRateApiUrl;
+
     @Value("${app.exchange-rate.api.timeout:5000}")
     private int timeout;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public RestTemplate restTemplate() {
+        if (virtualThreads) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofMillis(timeout))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(Duration.ofMillis(timeout));
+            return new RestTemplate(factory);
+        }
+
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
         factory.setConnectTimeout(timeout);
         factory.setReadTimeout(timeout);
         
         return new RestTemplate(factory);
     }
-} 
\ No newline at end of file
+
+    @Bean
+    public WebClient exchangeRateWebClient(WebClient.Builder builder) {
+        reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
+                .responseTimeout(Duration.ofMillis(timeout));
+        return builder
+                .baseUrl(exchangeRateApiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
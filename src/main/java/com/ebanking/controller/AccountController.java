@@ -2,12 +2,18 @@ package com.ebanking.controller;
 
 import com.ebanking.domain.Account;
 import com.ebanking.dto.AccountDto;
+import com.ebanking.dto.BulkImportResponse;
 import com.ebanking.repository.AccountRepository;
 import com.ebanking.service.AccountService;
+import com.ebanking.service.BulkImportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,6 +24,7 @@ public class AccountController {
 
     private final AccountService accountService;
     private final AccountRepository accountRepository;
+    private final BulkImportService bulkImportService;
 
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<List<AccountDto>> getAccountsByCustomer(@PathVariable String customerId) {
@@ -31,6 +38,11 @@ public class AccountController {
         return ResponseEntity.ok(dtos);
     }
 
+    @GetMapping("/me")
+    public ResponseEntity<List<AccountDto>> getMyAccounts(Authentication authentication) {
+        return getAccountsByCustomer(authentication.getName());
+    }
+
     @PostMapping
     public ResponseEntity<AccountDto> createAccount(@RequestBody AccountDto accountDto, @RequestParam String customerId) {
         Account account = accountService.createAccount(customerId, accountDto.getIban(), accountDto.getCurrency());
@@ -39,4 +51,12 @@ public class AccountController {
         dto.setCurrency(account.getCurrency());
         return ResponseEntity.ok(dto);
     }
+
+    /**
+     * Creates accounts from an NDJSON body, one {@code {"iban","currency","customerId"}} object per line.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResponse> importAccounts(InputStream body) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importAccounts(body));
+    }
 }
\ No newline at end of file
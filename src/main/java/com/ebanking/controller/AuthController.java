@@ -3,9 +3,14 @@ package com.ebanking.controller;
 import com.ebanking.domain.Customer;
 import com.ebanking.dto.LoginRequest;
 import com.ebanking.dto.LoginResponse;
+import com.ebanking.dto.RefreshTokenRequest;
 import com.ebanking.dto.RegisterRequest;
+import com.ebanking.exception.RateLimitExceededException;
 import com.ebanking.repository.CustomerRepository;
+import com.ebanking.security.CustomerIdBloomFilter;
 import com.ebanking.security.JwtService;
+import com.ebanking.security.LoginRateLimiter;
+import com.ebanking.security.RefreshTokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,6 +22,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -170,6 +176,9 @@ public class AuthController {
     private final JwtService jwtService;
     private final CustomerRepository customerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final CustomerIdBloomFilter customerIdBloomFilter;
 
     @Operation(
             summary = "Customer Login",
@@ -189,7 +198,9 @@ public class AuthController {
                         {
                           "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
                           "customerId": "CUST123456",
-                          "message": "Login successful"
+                          "message": "Login successful",
+                          "refreshToken": "Jx0d3v5k6mQ1tU0c2bq3yW8H1rS9aLqv5Zx7cT2pN4E",
+                          "expiresIn": 900
                         }
                         """
                             )
@@ -220,6 +231,14 @@ public class AuthController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many login attempts",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = com.ebanking.dto.ErrorResponse.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "Invalid credentials",
@@ -263,6 +282,10 @@ public class AuthController {
             )
             @Valid @RequestBody LoginRequest request) {
 
+        if (!loginRateLimiter.tryAcquireForCustomer(request.getCustomerId())) {
+            throw new RateLimitExceededException("Too many login attempts, please retry later");
+        }
+
         try {
             log.info("Attempting login for customer: {}", request.getCustomerId());
 
@@ -271,11 +294,14 @@ public class AuthController {
             );
 
             String token = jwtService.generateToken(request.getCustomerId());
+            String refreshToken = refreshTokenService.issue(request.getCustomerId());
 
             LoginResponse response = new LoginResponse(
                     token,
                     request.getCustomerId(),
-                    "Login successful"
+                    "Login successful",
+                    refreshToken,
+                    jwtService.getExpiration() / 1000
             );
 
             return ResponseEntity.ok(response);
@@ -288,6 +314,60 @@ public class AuthController {
         }
     }
 
+    @Operation(
+            summary = "Refresh Access Token",
+            description = "Exchange a refresh token for a new access token and a rotated refresh token",
+            operationId = "refreshToken"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Token refreshed",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LoginResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Refresh token is unknown, expired, revoked or already used",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = com.ebanking.dto.ErrorResponse.class),
+                            examples = @ExampleObject(
+                                    name = "Invalid Refresh Token",
+                                    value = """
+                        {
+                          "status": 401,
+                          "error": "Invalid Refresh Token",
+                          "message": "Refresh token has already been used",
+                          "timestamp": "2024-01-15T10:30:00"
+                        }
+                        """
+                            )
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/refresh",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        RefreshTokenService.RotatedToken rotated = refreshTokenService.rotate(request.getRefreshToken());
+
+        LoginResponse response = new LoginResponse(
+                jwtService.generateToken(rotated.customerId()),
+                rotated.customerId(),
+                "Token refreshed",
+                rotated.refreshToken(),
+                jwtService.getExpiration() / 1000
+        );
+
+        log.debug("Refreshed access token for customer: {}", rotated.customerId());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Customer Registration",
             description = "Register a new customer account with the provided credentials",
@@ -305,8 +385,7 @@ public class AuthController {
                                     value = """
                         {
                           "id": "CUST123456",
-                          "password": "$2a$10$encryptedPasswordHash",
-                          "accounts": []
+                          "password": "$2a$10$encryptedPasswordHash"
                         }
                         """
                             )
@@ -382,7 +461,9 @@ public class AuthController {
 
         log.info("Attempting registration for customer: {}", request.getCustomerId());
 
-        if (customerRepository.existsById(request.getCustomerId())) {
+        // Only IDs the Bloom filter has seen can be duplicates; confirm those before paying for BCrypt
+        if (customerIdBloomFilter.mightContain(request.getCustomerId())
+                && customerRepository.existsByIdForWrite(request.getCustomerId())) {
             throw new IllegalArgumentException("Customer with ID '" + request.getCustomerId() + "' already exists");
         }
 
@@ -391,7 +472,14 @@ public class AuthController {
                 .password(passwordEncoder.encode(request.getPassword()))
                 .build();
 
-        Customer saved = customerRepository.save(customer);
+        Customer saved;
+        try {
+            saved = customerRepository.save(customer);
+        } catch (DataIntegrityViolationException e) {
+            customerIdBloomFilter.put(request.getCustomerId());
+            throw new IllegalArgumentException("Customer with ID '" + request.getCustomerId() + "' already exists");
+        }
+        customerIdBloomFilter.put(request.getCustomerId());
         log.info("Successfully registered customer: {}", request.getCustomerId());
         return ResponseEntity.ok(saved);
     }
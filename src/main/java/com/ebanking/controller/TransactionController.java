@@ -260,26 +260,41 @@
 package com.ebanking.controller;
 
 import com.ebanking.dto.AccountTransactionsSummaryDto;
+import com.ebanking.dto.BulkImportResponse;
+import com.ebanking.dto.CustomerOverviewDto;
+import com.ebanking.dto.StatementDto;
 import com.ebanking.dto.TransactionRequestDto;
 import com.ebanking.dto.TransactionResponseDto;
 import com.ebanking.mapper.TransactionMapper;
 import com.ebanking.domain.Account;
 import com.ebanking.domain.Transaction;
 import com.ebanking.repository.AccountRepository;
+import com.ebanking.service.BulkImportService;
+import com.ebanking.service.CustomerOverviewService;
+import com.ebanking.service.StatementResponseCache;
+import com.ebanking.service.StatementService;
 import com.ebanking.service.TransactionService;
+import com.ebanking.validation.CurrencyValidator;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.YearMonth;
 import java.util.List;
-import java.util.UUID;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -287,16 +302,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TransactionController {
 
+    private static final CurrencyValidator CURRENCY_VALIDATOR = new CurrencyValidator();
+
     private final TransactionService transactionService;
     private final AccountRepository accountRepository;
     private final TransactionMapper transactionMapper;
+    private final BulkImportService bulkImportService;
+    private final CustomerOverviewService customerOverviewService;
+    private final StatementService statementService;
+    private final StatementResponseCache statementResponseCache;
 
     @PostMapping
     public ResponseEntity<TransactionResponseDto> createTransaction(@Valid @RequestBody TransactionRequestDto requestDto) {
-        Account account = accountRepository.findById(requestDto.getAccountIban())
+        // Read from the primary so an account created moments ago is not missed through replica lag
+        Account account = accountRepository.findByIbanForWrite(requestDto.getAccountIban())
                 .orElseThrow(() -> new IllegalArgumentException("Account not found: " + requestDto.getAccountIban()));
         Transaction transaction = transactionMapper.toEntity(requestDto, account);
-        transaction.setId(UUID.randomUUID().toString());
         Transaction saved = transactionService.createTransaction(
                 account.getIban(),
                 transaction.getAmount(),
@@ -307,6 +328,22 @@ public class TransactionController {
         return ResponseEntity.ok(responseDto);
     }
 
+    @Operation(
+            summary = "Import transactions in bulk",
+            description = "Reads one transaction request per line (NDJSON), stores them in committed chunks and reports every rejected line."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import report",
+                    content = @Content(schema = @Schema(implementation = BulkImportResponse.class))
+            ),
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResponse> importTransactions(InputStream body) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importTransactions(body));
+    }
+
     @Operation(
             summary = "Get all transactions for an account",
             description = "Returns all transactions for the given account IBAN, including total debit and credit."
@@ -320,27 +357,88 @@ public class TransactionController {
     })
     @GetMapping("/account/{iban}")
     public ResponseEntity<AccountTransactionsSummaryDto> getTransactionsByAccount(@PathVariable String iban) {
-        List<Transaction> transactions = transactionService.getTransactionsByAccount(iban);
-        List<TransactionResponseDto> dtos = transactions.stream()
-                .map(transactionMapper::toDto)
-                .collect(Collectors.toList());
+        List<TransactionResponseDto> transactions = transactionService.getTransactionsByAccount(iban);
+        return ResponseEntity.ok(AccountTransactionsSummaryDto.of(transactions));
+    }
 
-        BigDecimal totalDebit = transactions.stream()
-                .filter(Transaction::isDebit)
-                .map(Transaction::getAbsoluteAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    @Operation(
+            summary = "Get all transactions for one of the authenticated customer's accounts",
+            description = "Returns the transactions and totals for the given IBAN if it belongs to the authenticated customer, otherwise an empty summary."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "List of transactions and totals",
+                    content = @Content(schema = @Schema(implementation = AccountTransactionsSummaryDto.class))
+            ),
+    })
+    @GetMapping("/me/account/{iban}")
+    public ResponseEntity<AccountTransactionsSummaryDto> getMyTransactionsByAccount(@PathVariable String iban,
+                                                                                     Authentication authentication) {
+        List<TransactionResponseDto> transactions = transactionService.getTransactionsByAccountForCustomer(iban, authentication.getName());
+        return ResponseEntity.ok(AccountTransactionsSummaryDto.of(transactions));
+    }
 
-        BigDecimal totalCredit = transactions.stream()
-                .filter(Transaction::isCredit)
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    @Operation(
+            summary = "Get one month of transactions for an account",
+            description = "Returns the transactions with a value date in the given month, including total debit and credit. "
+                    + "Closed months are served from a response cache with an ETag; a matching If-None-Match gets 304."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "List of transactions and totals",
+                    content = @Content(schema = @Schema(implementation = AccountTransactionsSummaryDto.class))
+            ),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid year or month")
+    })
+    @GetMapping("/account/{iban}/{year}/{month}")
+    public ResponseEntity<byte[]> getTransactionsByAccountForMonth(@PathVariable String iban,
+                                                                   @PathVariable int year,
+                                                                   @PathVariable int month,
+                                                                   WebRequest request) {
+        YearMonth yearMonth = toYearMonth(year, month);
+        return statementResponseCache.respond(StatementResponseCache.Key.account(iban, yearMonth), request,
+                () -> AccountTransactionsSummaryDto.of(transactionService.getTransactionsByAccountForMonth(iban, yearMonth)));
+    }
 
-        AccountTransactionsSummaryDto summary = new AccountTransactionsSummaryDto();
-        summary.setTransactions(dtos);
-        summary.setTotalDebit(totalDebit);
-        summary.setTotalCredit(totalCredit);
+    @Operation(
+            summary = "Get one month of transactions for one of the authenticated customer's accounts",
+            description = "Returns the transactions with a value date in the given month if the IBAN belongs to the authenticated customer, otherwise an empty summary. "
+                    + "Closed months are served from a response cache with an ETag; a matching If-None-Match gets 304."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "List of transactions and totals",
+                    content = @Content(schema = @Schema(implementation = AccountTransactionsSummaryDto.class))
+            ),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid year or month")
+    })
+    @GetMapping("/me/account/{iban}/{year}/{month}")
+    public ResponseEntity<byte[]> getMyTransactionsByAccountForMonth(@PathVariable String iban,
+                                                                     @PathVariable int year,
+                                                                     @PathVariable int month,
+                                                                     Authentication authentication,
+                                                                     WebRequest request) {
+        YearMonth yearMonth = toYearMonth(year, month);
+        String customerId = authentication.getName();
+        return statementResponseCache.respond(
+                StatementResponseCache.Key.accountForCustomer(iban, customerId, yearMonth), request,
+                () -> AccountTransactionsSummaryDto.of(transactionService.getTransactionsByAccountForCustomerAndMonth(iban, customerId, yearMonth)));
+    }
 
-        return ResponseEntity.ok(summary);
+    private static YearMonth toYearMonth(int year, int month) {
+        // Four-digit years keep the month's date range within what LocalDate and the database hold
+        if (year < 1 || year > 9999) {
+            throw new IllegalArgumentException("Invalid year: " + year);
+        }
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month: " + month);
+        }
+        return YearMonth.of(year, month);
     }
 
     @Operation(
@@ -356,10 +454,86 @@ public class TransactionController {
     })
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<List<TransactionResponseDto>> getTransactionsByCustomer(@PathVariable String customerId) {
-        List<Transaction> transactions = transactionService.getTransactionsByCustomer(customerId);
-        List<TransactionResponseDto> dtos = transactions.stream()
-                .map(transactionMapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+        return ResponseEntity.ok(transactionService.getTransactionsByCustomer(customerId));
+    }
+
+    @Operation(
+            summary = "Get all transactions for the authenticated customer",
+            description = "Returns all transactions for the customer identified by the access token."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "List of transactions",
+                    content = @Content(schema = @Schema(implementation = TransactionResponseDto.class))
+            ),
+    })
+    @GetMapping("/me")
+    public ResponseEntity<List<TransactionResponseDto>> getMyTransactions(Authentication authentication) {
+        return getTransactionsByCustomer(authentication.getName());
+    }
+
+    @Operation(
+            summary = "Get an overview of all accounts of the authenticated customer",
+            description = "Queries the accounts and resolves exchange rates in parallel, then returns balances, totals and all transactions in the base currency ordered by value date. "
+                    + "Per-stage timings are returned in the Server-Timing header."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Accounts, transactions and totals",
+                    content = @Content(schema = @Schema(implementation = CustomerOverviewDto.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Unsupported base currency")
+    })
+    @GetMapping("/me/overview")
+    public ResponseEntity<CustomerOverviewDto> getMyOverview(
+            Authentication authentication,
+            @Parameter(description = "Base currency for converted amounts and totals (ISO 4217)", example = "GBP")
+            @RequestParam(value = "baseCurrency", defaultValue = "GBP") String baseCurrency) {
+        if (!CURRENCY_VALIDATOR.isValid(baseCurrency, null)) {
+            throw new IllegalArgumentException("Unsupported currency: " + baseCurrency);
+        }
+        CustomerOverviewService.Overview result = customerOverviewService.getOverview(authentication.getName(), baseCurrency);
+        return ResponseEntity.ok()
+                .header("Server-Timing", toServerTiming(result.stageNanos()))
+                .body(result.overview());
+    }
+
+    @Operation(
+            summary = "Get the monthly statement of the authenticated customer",
+            description = "Returns the transactions of all the customer's accounts in the month, each converted to the base currency at its value-date rate, with debit and credit totals. "
+                    + "Closed months are served from a response cache with an ETag; a matching If-None-Match gets 304."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Statement entries and totals",
+                    content = @Content(schema = @Schema(implementation = StatementDto.class))
+            ),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid year or month, or unsupported base currency")
+    })
+    @GetMapping("/me/statement/{year}/{month}")
+    public ResponseEntity<byte[]> getMyStatement(
+            @PathVariable int year,
+            @PathVariable int month,
+            Authentication authentication,
+            @Parameter(description = "Base currency for converted amounts and totals (ISO 4217)", example = "GBP")
+            @RequestParam(value = "baseCurrency", defaultValue = "GBP") String baseCurrency,
+            WebRequest request) {
+        if (!CURRENCY_VALIDATOR.isValid(baseCurrency, null)) {
+            throw new IllegalArgumentException("Unsupported currency: " + baseCurrency);
+        }
+        YearMonth yearMonth = toYearMonth(year, month);
+        String customerId = authentication.getName();
+        return statementResponseCache.respond(StatementResponseCache.Key.statement(customerId, yearMonth, baseCurrency),
+                request, () -> statementService.getStatement(customerId, yearMonth, baseCurrency));
+    }
+
+    private static String toServerTiming(Map<String, Long> stageNanos) {
+        return stageNanos.entrySet().stream()
+                .map(stage -> String.format(Locale.ROOT, "%s;dur=%.1f", stage.getKey(), stage.getValue() / 1_000_000.0))
+                .collect(Collectors.joining(", "));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package com.ebanking.controller;
+
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.service.TransactionStreamService;
+import com.ebanking.validation.CurrencyValidator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming variants of the transaction read endpoints.
+ *
+ * Results are written as they are read (NDJSON or server-sent events) over an async
+ * servlet response, so the request thread is released while the client reads.
+ */
+@RestController
+@RequestMapping("/api/v1/transactions")
+@RequiredArgsConstructor
+public class TransactionStreamController {
+
+    private static final CurrencyValidator CURRENCY_VALIDATOR = new CurrencyValidator();
+
+    private final TransactionStreamService transactionStreamService;
+
+    @Operation(
+            summary = "Stream all transactions for the authenticated customer",
+            description = "Streams the customer's transactions ordered by value date, optionally converted to another currency."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One transaction per line or event",
+                    content = @Content(schema = @Schema(implementation = TransactionResponseDto.class))
+            ),
+    })
+    @GetMapping(value = "/me/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<TransactionResponseDto> streamMyTransactions(
+            Authentication authentication,
+            @Parameter(description = "Currency to convert amounts to") @RequestParam(required = false) String currency) {
+        return convert(transactionStreamService.streamTransactionsByCustomer(authentication.getName()), currency);
+    }
+
+    @Operation(
+            summary = "Stream the transactions of one of the authenticated customer's accounts",
+            description = "Streams the account's transactions ordered by value date; empty if the account is not the customer's."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One transaction per line or event",
+                    content = @Content(schema = @Schema(implementation = TransactionResponseDto.class))
+            ),
+    })
+    @GetMapping(value = "/me/account/{iban}/stream",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<TransactionResponseDto> streamMyAccountTransactions(
+            @PathVariable String iban,
+            Authentication authentication,
+            @Parameter(description = "Currency to convert amounts to") @RequestParam(required = false) String currency) {
+        return convert(transactionStreamService.streamTransactionsByAccountForCustomer(iban, authentication.getName()),
+                currency);
+    }
+
+    private Flux<TransactionResponseDto> convert(Flux<TransactionResponseDto> transactions, String currency) {
+        if (currency == null) {
+            return transactions;
+        }
+        if (!CURRENCY_VALIDATOR.isValid(currency, null)) {
+            // The JSON ErrorResponse cannot be written for an NDJSON or event-stream request, so the
+            // status has to come from the exception itself rather than from GlobalExceptionHandler
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported currency: " + currency);
+        }
+        return transactionStreamService.convertTo(transactions, currency);
+    }
+}
@@ -2,8 +2,18 @@ package com.ebanking.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@BatchSize(size = 50) // uninitialized Account proxies are loaded 50 at a time
+@Table(indexes = {
+        @Index(name = "idx_account_customer", columnList = "customer_id"),
+        @Index(name = "idx_account_currency", columnList = "currency")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,16 +1,23 @@
 package com.ebanking.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Customer {
+public class Customer implements Persistable<String> {
 
     @Id
     private String id; // e.g. "P-0123456789"
@@ -18,8 +25,41 @@ public class Customer {
     @Column(nullable = false)
     private String password; // Will be hashed
 
+    /**
+     * Not serialized: rendering a customer must not initialize the collection lazily.
+     * Use {@code AccountRepository.findByCustomer_Id} when the accounts are needed.
+     */
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @BatchSize(size = 50)
+    @JsonIgnore
     private List<Account> accounts;
 
     // Add other customer fields as needed (name, email, etc.)
-}
\ No newline at end of file
+
+    /**
+     * The id is assigned by the caller, so Spring Data cannot tell a new customer from an
+     * existing one by the id alone and would merge (select, then insert). Tracking it here
+     * lets save() persist new customers with a single insert.
+     */
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
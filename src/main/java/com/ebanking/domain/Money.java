@@ -0,0 +1,170 @@
+package com.ebanking.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Immutable fixed-point amount of money: a whole number of minor units plus a currency.
+ *
+ * Minor units are hundredths for every currency, matching the {@code NUMERIC(38, 2)}
+ * amount column, so stored amounts convert exactly (up to about 9.2e16). Arithmetic is
+ * done on the long and fails with an {@link ArithmeticException} on overflow instead of
+ * wrapping.
+ *
+ * Serialized as {@code {"amount": 100.00, "currency": "GBP"}}, with the amount written
+ * exactly as the equivalent {@link BigDecimal} would be.
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public record Money(long minorUnits, String currency) {
+
+    /**
+     * Number of decimal places represented by one minor unit.
+     */
+    public static final int SCALE = 2;
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+    }
+
+    /**
+     * Creates an amount from its decimal value.
+     *
+     * @param amount Amount with at most two decimal places
+     * @param currency Currency code
+     * @return Money
+     * @throws IllegalArgumentException if the amount has more decimal places or does not fit
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        return new Money(toMinorUnits(amount), currency);
+    }
+
+    public static Money ofMinor(long minorUnits, String currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    public static Money zero(String currency) {
+        return new Money(0, currency);
+    }
+
+    /**
+     * Converts a decimal amount to minor units without rounding.
+     *
+     * @param amount Amount with at most two decimal places
+     * @return Amount in minor units
+     * @throws IllegalArgumentException if the amount has more decimal places or does not fit in a long
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        Objects.requireNonNull(amount, "amount");
+        try {
+            return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount not representable in minor units: " + amount, e);
+        }
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, minorUnitsOf(other)), currency);
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, minorUnitsOf(other)), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public Money abs() {
+        return minorUnits < 0 ? negate() : this;
+    }
+
+    /**
+     * Converts to another currency, rounding half up to the nearest minor unit.
+     *
+     * @param rate Rate from this currency to the target currency
+     * @param toCurrency Target currency
+     * @return Converted amount
+     */
+    public Money convert(BigDecimal rate, String toCurrency) {
+        return Money.of(toBigDecimal().multiply(rate).setScale(SCALE, RoundingMode.HALF_UP), toCurrency);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    private long minorUnitsOf(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+        return other.minorUnits;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+
+    public static class Serializer extends JsonSerializer<Money> {
+        @Override
+        public void serialize(Money money, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("amount", money.toBigDecimal());
+            gen.writeStringField("currency", money.currency());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Money> {
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+            }
+            BigDecimal amount = null;
+            String currency = null;
+            for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case "amount" -> amount = value == JsonToken.VALUE_STRING
+                            ? new BigDecimal(p.getText()) : p.getDecimalValue();
+                    case "currency" -> currency = p.getValueAsString();
+                    default -> p.skipChildren();
+                }
+            }
+            if (amount == null || currency == null) {
+                return ctxt.reportInputMismatch(Money.class, "Money requires amount and currency");
+            }
+            try {
+                return Money.of(amount, currency);
+            } catch (IllegalArgumentException e) {
+                return ctxt.reportInputMismatch(Money.class, e.getMessage());
+            }
+        }
+    }
+}
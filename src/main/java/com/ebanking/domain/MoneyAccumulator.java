@@ -0,0 +1,69 @@
+package com.ebanking.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Mutable debit and credit totals in minor units (see {@link Money}).
+ *
+ * Adding is plain long arithmetic with overflow checks, so totalling a list allocates
+ * nothing per entry once amounts are in minor units. The totals are converted to
+ * {@link BigDecimal} once at the end, with the same value and scale as summing the
+ * amounts from {@code BigDecimal.ZERO}: zero when nothing was added to that side,
+ * otherwise two decimal places. Zero amounts count towards neither side.
+ *
+ * Not thread-safe; use one per request.
+ */
+public final class MoneyAccumulator {
+
+    private long debitMinorUnits;
+    private long creditMinorUnits;
+    private int debits;
+    private int credits;
+
+    /**
+     * Adds an amount, ignoring null.
+     *
+     * @param amount Amount with at most two decimal places
+     */
+    public void add(BigDecimal amount) {
+        if (amount != null) {
+            add(Money.toMinorUnits(amount));
+        }
+    }
+
+    public void add(Money amount) {
+        add(amount.minorUnits());
+    }
+
+    public void add(long minorUnits) {
+        if (minorUnits > 0) {
+            creditMinorUnits = Math.addExact(creditMinorUnits, minorUnits);
+            credits++;
+        } else if (minorUnits < 0) {
+            debitMinorUnits = Math.subtractExact(debitMinorUnits, minorUnits);
+            debits++;
+        }
+    }
+
+    /**
+     * @return Sum of the absolute values of the negative amounts
+     */
+    public BigDecimal getTotalDebit() {
+        return debits == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(debitMinorUnits, Money.SCALE);
+    }
+
+    /**
+     * @return Sum of the positive amounts
+     */
+    public BigDecimal getTotalCredit() {
+        return credits == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(creditMinorUnits, Money.SCALE);
+    }
+
+    public long getDebitMinorUnits() {
+        return debitMinorUnits;
+    }
+
+    public long getCreditMinorUnits() {
+        return creditMinorUnits;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ebanking.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Persisted refresh token.
+ *
+ * Only the SHA-256 hash of the opaque token is stored, so a lookup is a single
+ * primary-key read. Tokens issued from the same login share a family id, which
+ * allows the whole chain to be revoked when a rotated token is presented again.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "customer_id", nullable = false)
+    private String customerId;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "used_at")
+    private Instant usedAt;
+
+    @Column(nullable = false)
+    private boolean revoked;
+
+    /**
+     * Checks if the token is past its expiry time.
+     *
+     * @param now reference instant
+     * @return true if expired, false otherwise
+     */
+    public boolean isExpired(Instant now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -1,13 +1,20 @@
 package com.ebanking.domain;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -23,13 +30,16 @@ import java.time.LocalDate;
  * including amount, currency, account details, and metadata.
  */
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_account_date", columnList = "account_iban, value_date, id"),
+        @Index(name = "idx_transactions_customer_date", columnList = "customer_id, value_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Money account transaction")
-public class Transaction {
+public class Transaction implements Persistable<String> {
 
     @Id
     @NotBlank(message = "Transaction ID is required")
@@ -38,6 +48,7 @@ public class Transaction {
              message = "Transaction ID must be a valid UUID")
     @Schema(description = "Unique transaction identifier (UUID)", 
             example = "89d3o179-abcd-465b-o9ee-e2d5f6ofEld46")
+    @Column(length = 36)
     private String id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -57,6 +68,7 @@ public class Transaction {
     @NotNull(message = "Value date is required")
     @JsonFormat(pattern = "yyyy-MM-dd")
     @Schema(description = "Transaction value date", example = "2020-10-01")
+    @Column(name = "value_date", nullable = false)
     private LocalDate valueDate;
 
     @NotBlank(message = "Description is required")
@@ -67,15 +79,42 @@ public class Transaction {
     @Schema(description = "Customer ID associated with this transaction", 
             example = "P-0123456789")
     @JsonProperty("customerId")
+    @Column(name = "customer_id")
     private String customerId;
 
+    /**
+     * Tracks whether this transaction has been persisted yet. The id is assigned before
+     * saving, so without this Spring Data would merge (select, then insert) instead of
+     * persisting, and Hibernate could not batch the inserts.
+     */
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntity = true;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     /**
      * Determines if this transaction is a credit (positive amount).
      * 
      * @return true if amount is positive, false otherwise
      */
     public boolean isCredit() {
-        return amount != null && amount.compareTo(BigDecimal.ZERO) > 0;
+        return amount != null && amount.signum() > 0;
     }
 
     /**
@@ -84,7 +123,7 @@ public class Transaction {
      * @return true if amount is negative, false otherwise
      */
     public boolean isDebit() {
-        return amount != null && amount.compareTo(BigDecimal.ZERO) < 0;
+        return amount != null && amount.signum() < 0;
     }
 
     /**
@@ -95,4 +134,13 @@ public class Transaction {
     public BigDecimal getAbsoluteAmount() {
         return amount != null ? amount.abs() : BigDecimal.ZERO;
     }
+
+    /**
+     * Gets the amount as fixed-point money for arithmetic on totals.
+     *
+     * @return amount and currency in minor units
+     */
+    public Money toMoney() {
+        return Money.of(amount, currency);
+    }
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 // src/main/java/com/ebanking/dto/AccountTransactionsSummaryDto.java
 package com.ebanking.dto;
 
+import com.ebanking.domain.MoneyAccumulator;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import java.math.BigDecimal;
@@ -16,4 +17,29 @@ public class AccountTransactionsSummaryDto {
 
     @Schema(description = "Total credit amount", example = "200.00")
     private BigDecimal totalCredit;
+
+    /**
+     * Creates the summary of a list of transactions, with its debit and credit totals. Amounts
+     * are added in minor units where the projection selected them.
+     *
+     * @param transactions Transactions of the account
+     * @return Summary
+     */
+    public static AccountTransactionsSummaryDto of(List<TransactionResponseDto> transactions) {
+        MoneyAccumulator totals = new MoneyAccumulator();
+        for (TransactionResponseDto transaction : transactions) {
+            Long minorUnits = transaction.getAmountMinorUnits();
+            if (minorUnits != null) {
+                totals.add(minorUnits.longValue());
+            } else {
+                totals.add(transaction.getAmount());
+            }
+        }
+
+        AccountTransactionsSummaryDto summary = new AccountTransactionsSummaryDto();
+        summary.setTransactions(transactions);
+        summary.setTotalDebit(totals.getTotalDebit());
+        summary.setTotalCredit(totals.getTotalCredit());
+        return summary;
+    }
 }
\ No newline at end of file
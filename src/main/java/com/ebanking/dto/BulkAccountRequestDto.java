@@ -0,0 +1,24 @@
+package com.ebanking.dto;
+
+import com.ebanking.validation.ValidCurrency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+@Schema(description = "One line of a bulk account import")
+public class BulkAccountRequestDto {
+
+    @Schema(description = "International Bank Account Number (IBAN)", example = "GB29NWBK60161331926819")
+    @NotBlank(message = "IBAN is required")
+    private String iban;
+
+    @Schema(description = "Currency code (ISO 4217 3-letter code)", example = "GBP")
+    @NotBlank(message = "Currency is required")
+    @ValidCurrency(message = "Currency must be a valid 3-letter ISO 4217 code")
+    private String currency;
+
+    @Schema(description = "Owning customer ID", example = "P-0123456789")
+    @NotBlank(message = "Customer ID is required")
+    private String customerId;
+}
@@ -0,0 +1,49 @@
+package com.ebanking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk NDJSON import.
+ *
+ * Lines are numbered from 1. Only the first errors up to the configured limit are listed;
+ * {@code failed} always counts all of them.
+ */
+@Data
+@NoArgsConstructor
+@Schema(description = "Bulk import report")
+public class BulkImportResponse {
+
+    @Schema(description = "Number of non-blank lines read", example = "10000")
+    private long received;
+
+    @Schema(description = "Number of rows stored", example = "9998")
+    private long imported;
+
+    @Schema(description = "Number of rejected lines", example = "2")
+    private long failed;
+
+    @Schema(description = "Rejected lines and the reason for each")
+    private List<LineError> errors = new ArrayList<>();
+
+    /**
+     * Nested class for per-line errors.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Rejected line")
+    public static class LineError {
+
+        @Schema(description = "Line number in the request body", example = "42")
+        private long line;
+
+        @Schema(description = "Reason the line was rejected", example = "Account not found: GB00000000000000000001")
+        private String message;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ebanking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class CustomerOverviewDto {
+    @Schema(description = "Currency of the converted amounts and totals", example = "GBP")
+    private String baseCurrency;
+
+    @Schema(description = "Accounts of the customer with their balances")
+    private List<AccountOverview> accounts;
+
+    @Schema(description = "Transactions of all accounts in the base currency, ordered by value date")
+    private List<TransactionResponseDto> transactions;
+
+    @Schema(description = "Total debit amount in the base currency", example = "100.00")
+    private BigDecimal totalDebit;
+
+    @Schema(description = "Total credit amount in the base currency", example = "200.00")
+    private BigDecimal totalCredit;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountOverview {
+        @Schema(description = "Account IBAN", example = "GB29NWBK60161331926819")
+        private String iban;
+
+        @Schema(description = "Account currency", example = "EUR")
+        private String currency;
+
+        @Schema(description = "Number of transactions", example = "42")
+        private int transactionCount;
+
+        @Schema(description = "Sum of the transactions in the account currency", example = "1250.00")
+        private BigDecimal balance;
+
+        @Schema(description = "Balance in the base currency", example = "1075.00")
+        private BigDecimal convertedBalance;
+    }
+}
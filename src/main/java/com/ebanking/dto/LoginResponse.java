@@ -9,4 +9,6 @@ public class LoginResponse {
     private String token;
     private String customerId;
     private String message;
-}
\ No newline at end of file
+    private String refreshToken;
+    private long expiresIn; // access token lifetime in seconds
+}
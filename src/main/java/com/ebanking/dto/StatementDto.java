@@ -0,0 +1,58 @@
+package com.ebanking.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@Data
+public class StatementDto {
+    @Schema(description = "Statement month", example = "2024-01", type = "string")
+    private YearMonth month;
+
+    @Schema(description = "Currency of the converted amounts and totals", example = "GBP")
+    private String baseCurrency;
+
+    @Schema(description = "Transactions of all the customer's accounts in the month, ordered by value date")
+    private List<Entry> entries;
+
+    @Schema(description = "Total debit amount in the base currency", example = "100.00")
+    private BigDecimal totalDebit;
+
+    @Schema(description = "Total credit amount in the base currency", example = "200.00")
+    private BigDecimal totalCredit;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        @Schema(description = "Transaction ID")
+        private String id;
+
+        @Schema(description = "Account IBAN", example = "GB29NWBK60161331926819")
+        private String accountIban;
+
+        @Schema(description = "Value date", example = "2024-01-15")
+        private LocalDate valueDate;
+
+        @Schema(description = "Description", example = "Online payment CHF")
+        private String description;
+
+        @Schema(description = "Amount in the transaction currency", example = "-75.50")
+        private BigDecimal amount;
+
+        @Schema(description = "Transaction currency", example = "CHF")
+        private String currency;
+
+        @Schema(description = "Rate from the transaction currency to the base currency on the value date", example = "0.89")
+        private BigDecimal exchangeRate;
+
+        @Schema(description = "Amount in the base currency", example = "-67.20")
+        private BigDecimal convertedAmount;
+    }
+}
@@ -0,0 +1,150 @@
+package com.ebanking.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the transaction list payloads, registered with the
+ * application's ObjectMapper.
+ *
+ * They write straight to the generator with pre-encoded field names instead of going
+ * through bean introspection and a serializer lookup per property. The output is the same
+ * as the reflective serializers: declaration order, the mapper's default inclusion for
+ * nulls (and empty strings under NON_EMPTY), BigDecimal as a number, and LocalDate as ISO
+ * text or as an array when WRITE_DATES_AS_TIMESTAMPS is on.
+ */
+@JsonComponent
+public class TransactionJsonComponent {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString ACCOUNT_IBAN = new SerializedString("accountIban");
+    private static final SerializedString CURRENCY = new SerializedString("currency");
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString VALUE_DATE = new SerializedString("valueDate");
+    private static final SerializedString TRANSACTIONS = new SerializedString("transactions");
+    private static final SerializedString TOTAL_DEBIT = new SerializedString("totalDebit");
+    private static final SerializedString TOTAL_CREDIT = new SerializedString("totalCredit");
+
+    public static class TransactionResponseSerializer extends JsonSerializer<TransactionResponseDto> {
+
+        @Override
+        public void serialize(TransactionResponseDto transaction, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            Inclusion inclusion = Inclusion.of(serializers, TransactionResponseDto.class);
+            gen.writeStartObject(transaction);
+            writeFields(transaction, gen, serializers, inclusion);
+            gen.writeEndObject();
+        }
+
+        static void writeFields(TransactionResponseDto transaction, JsonGenerator gen, SerializerProvider serializers,
+                                Inclusion inclusion) throws IOException {
+            writeString(gen, ID, transaction.getId(), inclusion);
+            writeString(gen, ACCOUNT_IBAN, transaction.getAccountIban(), inclusion);
+            writeString(gen, CURRENCY, transaction.getCurrency(), inclusion);
+            writeNumber(gen, AMOUNT, transaction.getAmount(), inclusion);
+            writeString(gen, DESCRIPTION, transaction.getDescription(), inclusion);
+            LocalDate valueDate = transaction.getValueDate();
+            if (valueDate != null) {
+                gen.writeFieldName(VALUE_DATE);
+                if (serializers.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+                    gen.writeStartArray();
+                    gen.writeNumber(valueDate.getYear());
+                    gen.writeNumber(valueDate.getMonthValue());
+                    gen.writeNumber(valueDate.getDayOfMonth());
+                    gen.writeEndArray();
+                } else {
+                    gen.writeString(valueDate.toString());
+                }
+            } else if (inclusion.writeNulls()) {
+                gen.writeFieldName(VALUE_DATE);
+                gen.writeNull();
+            }
+        }
+    }
+
+    public static class SummarySerializer extends JsonSerializer<AccountTransactionsSummaryDto> {
+
+        @Override
+        public void serialize(AccountTransactionsSummaryDto summary, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            Inclusion inclusion = Inclusion.of(serializers, AccountTransactionsSummaryDto.class);
+            Inclusion transactionInclusion = Inclusion.of(serializers, TransactionResponseDto.class);
+            gen.writeStartObject(summary);
+            List<TransactionResponseDto> transactions = summary.getTransactions();
+            if (transactions != null) {
+                if (!transactions.isEmpty() || !inclusion.skipEmpty()) {
+                    gen.writeFieldName(TRANSACTIONS);
+                    gen.writeStartArray(transactions, transactions.size());
+                    for (TransactionResponseDto transaction : transactions) {
+                        if (transaction == null) {
+                            gen.writeNull();
+                            continue;
+                        }
+                        gen.writeStartObject(transaction);
+                        TransactionResponseSerializer.writeFields(transaction, gen, serializers, transactionInclusion);
+                        gen.writeEndObject();
+                    }
+                    gen.writeEndArray();
+                }
+            } else if (inclusion.writeNulls()) {
+                gen.writeFieldName(TRANSACTIONS);
+                gen.writeNull();
+            }
+            writeNumber(gen, TOTAL_DEBIT, summary.getTotalDebit(), inclusion);
+            writeNumber(gen, TOTAL_CREDIT, summary.getTotalCredit(), inclusion);
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value, Inclusion inclusion)
+            throws IOException {
+        if (value != null) {
+            if (!value.isEmpty() || !inclusion.skipEmpty()) {
+                gen.writeFieldName(name);
+                gen.writeString(value);
+            }
+        } else if (inclusion.writeNulls()) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializedString name, BigDecimal value, Inclusion inclusion)
+            throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value);
+        } else if (inclusion.writeNulls()) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+
+    /**
+     * Which absent values are written, from the mapper's default property inclusion.
+     */
+    record Inclusion(boolean writeNulls, boolean skipEmpty) {
+
+        static Inclusion of(SerializerProvider serializers, Class<?> type) {
+            JsonInclude.Include include = serializers.getConfig()
+                    .getDefaultPropertyInclusion(type)
+                    .getValueInclusion();
+            return switch (include) {
+                case ALWAYS, USE_DEFAULTS, CUSTOM -> new Inclusion(true, false);
+                case NON_EMPTY, NON_DEFAULT -> new Inclusion(false, true);
+                case NON_NULL, NON_ABSENT -> new Inclusion(false, false);
+            };
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.ebanking.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor // used by the JPQL constructor projections in TransactionRepository
 public class TransactionResponseDto {
     private String id;
     private String accountIban;
@@ -13,4 +20,18 @@ public class TransactionResponseDto {
     private BigDecimal amount;
     private String description;
     private LocalDate valueDate;
-}
\ No newline at end of file
+
+    /**
+     * Amount in minor units (see {@link com.ebanking.domain.Money}), selected by the projections
+     * behind the summary endpoints so their totals add longs; null otherwise. Never serialized.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Long amountMinorUnits;
+
+    public TransactionResponseDto(String id, String accountIban, String currency, BigDecimal amount,
+                                  String description, LocalDate valueDate) {
+        this(id, accountIban, currency, amount, description, valueDate, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ebanking.exception;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * Thrown when a refresh token is unknown, expired, revoked or being reused.
+ */
+public class InvalidRefreshTokenException extends AuthenticationException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ebanking.exception;
+
+/**
+ * Thrown when a caller has exhausted its request allowance.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
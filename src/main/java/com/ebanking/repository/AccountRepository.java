@@ -2,10 +2,28 @@ package com.ebanking.repository;
 
 import com.ebanking.domain.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, String> {
-    List<Account> findByCustomer_Id(String customerId);
+    /**
+     * Filters on the customer_id foreign key; the derived query would join the customer
+     * table for the id and scan it.
+     */
+    @Query("select a from Account a where a.customer.id = :customerId")
+    List<Account> findByCustomer_Id(@Param("customerId") String customerId);
+
     List<Account> findByCurrency(String currency);
+
+    /**
+     * Finds an account in a read-write transaction so that it is read from the primary.
+     * {@code findById} runs read-only and is routed to the replica when one is configured.
+     */
+    @Transactional
+    @Query("select a from Account a where a.iban = :iban")
+    Optional<Account> findByIbanForWrite(@Param("iban") String iban);
 }
\ No newline at end of file
@@ -2,7 +2,23 @@ package com.ebanking.repository;
 
 import com.ebanking.domain.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
 
 public interface CustomerRepository extends JpaRepository<Customer, String> {
     // You can add custom queries if needed
-}
\ No newline at end of file
+
+    @Query("select c.id from Customer c")
+    Stream<String> streamAllIds();
+
+    /**
+     * Checks for a customer in a read-write transaction so that the primary is asked.
+     * {@code existsById} runs read-only and is routed to the replica when one is configured.
+     */
+    @Transactional
+    @Query("select count(c) > 0 from Customer c where c.id = :id")
+    boolean existsByIdForWrite(@Param("id") String id);
+}
@@ -1,20 +1,142 @@
 package com.ebanking.repository;
 
 import com.ebanking.domain.Transaction;
+import com.ebanking.dto.TransactionResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface TransactionRepository extends JpaRepository<Transaction, String> {
+
+    /*
+     * Entity finders. Each one fetches the account in the same select, so reading
+     * account fields off the results never costs one query per transaction.
+     */
+
+    @EntityGraph(attributePaths = "account")
     Page<Transaction> findByCustomerIdAndValueDateBetween(
             String customerId, LocalDate start, LocalDate end, Pageable pageable
     );
 
+    @EntityGraph(attributePaths = "account")
     List<Transaction> findByAccount_Iban(String iban);
-    List<Transaction> findByAccount_Customer_Id(String customerId);
+
+    /**
+     * Filters on the account's customer_id foreign key rather than the derived
+     * {@code Account_Customer_Id} path, which joins the customer table and keeps H2 from
+     * using the customer index.
+     */
+    @Query("select t from Transaction t join fetch t.account a where a.customer.id = :customerId")
+    List<Transaction> findByAccount_Customer_Id(@Param("customerId") String customerId);
+
+    /**
+     * Finds the transactions of an account only if it belongs to the given customer.
+     * Ownership is part of the query predicate, so no separate lookup is needed. The account
+     * is fetched through the join the predicate already needs.
+     */
+    @Query("select t from Transaction t join fetch t.account a where a.iban = :iban and a.customer.id = :customerId")
+    List<Transaction> findByAccount_IbanAndAccount_Customer_Id(@Param("iban") String iban,
+                                                               @Param("customerId") String customerId);
+
+    @EntityGraph(attributePaths = "account")
     List<Transaction> findByAccount_Currency(String currency);
+
+    /*
+     * Read-model projections. These select only the TransactionResponseDto columns and
+     * take the IBAN from the account_iban foreign key, so no Account proxy is created and
+     * nothing enters the persistence context (no dirty-checking snapshots).
+     *
+     * The single-account projections feed the summary totals and also select the amount in
+     * minor units (NUMERIC(38, 2) times 100 is a whole number), so the totals need no
+     * BigDecimal arithmetic.
+     */
+
+    @Query("select new com.ebanking.dto.TransactionResponseDto("
+            + "t.id, t.account.iban, t.currency, t.amount, t.description, t.valueDate, "
+            + "cast(t.amount * 100 as Long)) "
+            + "from Transaction t where t.account.iban = :iban")
+    List<TransactionResponseDto> findResponseDtosByAccountIban(@Param("iban") String iban);
+
+    @Query("select new com.ebanking.dto.TransactionResponseDto("
+            + "t.id, a.iban, t.currency, t.amount, t.description, t.valueDate) "
+            + "from Transaction t join t.account a where a.customer.id = :customerId")
+    List<TransactionResponseDto> findResponseDtosByCustomerId(@Param("customerId") String customerId);
+
+    @Query("select new com.ebanking.dto.TransactionResponseDto("
+            + "t.id, a.iban, t.currency, t.amount, t.description, t.valueDate, "
+            + "cast(t.amount * 100 as Long)) "
+            + "from Transaction t join t.account a where a.iban = :iban and a.customer.id = :customerId")
+    List<TransactionResponseDto> findResponseDtosByAccountIbanAndCustomerId(@Param("iban") String iban,
+                                                                            @Param("customerId") String customerId);
+
+    /*
+     * Value date range projections over the half-open range [from, to). On PostgreSQL the
+     * transactions table is partitioned by value_date month, so a one-month range only
+     * reads that month's partition.
+     */
+
+    @Query("select new com.ebanking.dto.TransactionResponseDto("
+            + "t.id, t.account.iban, t.currency, t.amount, t.description, t.valueDate, "
+            + "cast(t.amount * 100 as Long)) "
+            + "from Transaction t where t.account.iban = :iban and t.valueDate >= :from and t.valueDate < :to "
+            + "order by t.valueDate, t.id")
+    List<TransactionResponseDto> findResponseDtosByAccountIbanAndValueDateRange(@Param("iban") String iban,
+                                                                               @Param("from") LocalDate from,
+                                                                               @Param("to") LocalDate to);
+
+    @Query("select new com.ebanking.dto.TransactionResponseDto("
+            + "t.id, a.iban, t.currency, t.amount, t.description, t.valueDate, "
+            + "cast(t.amount * 100 as Long)) "
+            + "from Transaction t join t.account a where a.iban = :iban and a.customer.id = :customerId "
+            + "and t.valueDate >= :from and t.valueDate < :to "
+            + "order by t.valueDate, t.id")
+    List<TransactionResponseDto> findResponseDtosByAccountIbanAndCustomerIdAndValueDateRange(
+            @Param("iban") String iban,
+            @Param("customerId") String customerId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    @Query("select new com.ebanking.dto.TransactionResponseDto("
+            + "t.id, a.iban, t.currency, t.amount, t.description, t.valueDate) "
+            + "from Transaction t join t.account a where a.customer.id = :customerId "
+            + "and t.valueDate >= :from and t.valueDate < :to "
+            + "order by t.valueDate, t.id")
+    List<TransactionResponseDto> findResponseDtosByCustomerIdAndValueDateRange(@Param("customerId") String customerId,
+                                                                              @Param("from") LocalDate from,
+                                                                              @Param("to") LocalDate to);
+
+    /*
+     * Keyset pages for streaming: the rows after (afterDate, afterId) in (valueDate, id)
+     * order. Each page starts where the previous one ended, so a page costs the same
+     * no matter how deep into the result it is. The Pageable only carries the page size and
+     * must be page 0.
+     */
+
+    @Query("select new com.ebanking.dto.TransactionResponseDto("
+            + "t.id, a.iban, t.currency, t.amount, t.description, t.valueDate) "
+            + "from Transaction t join t.account a where a.customer.id = :customerId "
+            + "and (t.valueDate > :afterDate or (t.valueDate = :afterDate and t.id > :afterId)) "
+            + "order by t.valueDate, t.id")
+    List<TransactionResponseDto> findResponseDtosByCustomerIdAfter(@Param("customerId") String customerId,
+                                                                   @Param("afterDate") LocalDate afterDate,
+                                                                   @Param("afterId") String afterId,
+                                                                   Pageable page);
+
+    @Query("select new com.ebanking.dto.TransactionResponseDto("
+            + "t.id, a.iban, t.currency, t.amount, t.description, t.valueDate) "
+            + "from Transaction t join t.account a where a.iban = :iban and a.customer.id = :customerId "
+            + "and (t.valueDate > :afterDate or (t.valueDate = :afterDate and t.id > :afterId)) "
+            + "order by t.valueDate, t.id")
+    List<TransactionResponseDto> findResponseDtosByAccountIbanAndCustomerIdAfter(@Param("iban") String iban,
+                                                                                @Param("customerId") String customerId,
+                                                                                @Param("afterDate") LocalDate afterDate,
+                                                                                @Param("afterId") String afterId,
+                                                                                Pageable page);
 }
 
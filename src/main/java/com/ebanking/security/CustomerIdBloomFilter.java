@@ -0,0 +1,124 @@
+package com.ebanking.security;
+
+import com.ebanking.repository.CustomerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of registered customer IDs.
+ *
+ * A negative answer is exact: the ID has never been registered, so registration can go
+ * straight to the insert. A positive answer may be a false positive and must be confirmed
+ * against the database. Bits are set with lock-free updates so concurrent registrations
+ * never block each other.
+ */
+@Slf4j
+@Component
+public class CustomerIdBloomFilter {
+
+    private final CustomerRepository customerRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public CustomerIdBloomFilter(
+            CustomerRepository customerRepository,
+            @Value("${app.security.registration.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.security.registration.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter sizing");
+        }
+        this.customerRepository = customerRepository;
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Loads every existing customer ID once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadExistingIds() {
+        long count = 0;
+        try (Stream<String> ids = customerRepository.streamAllIds()) {
+            for (Iterator<String> it = ids.iterator(); it.hasNext(); count++) {
+                put(it.next());
+            }
+        }
+        log.info("Loaded {} customer IDs into the registration Bloom filter ({} bits, {} hashes)",
+                count, bitCount, hashCount);
+    }
+
+    /**
+     * Records a customer ID.
+     *
+     * @param customerId Customer ID
+     */
+    public void put(String customerId) {
+        long hash = hash64(customerId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a customer ID may have been registered.
+     *
+     * @param customerId Customer ID
+     * @return false if the ID is definitely not registered, true if it might be
+     */
+    public boolean mightContain(String customerId) {
+        long hash = hash64(customerId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & 0x7fffffffL) % bitCount;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 fmix64 step
+     * so that both 32-bit halves are well mixed for double hashing.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 
@@ -22,7 +23,13 @@ public class CustomerUserDetailsService implements UserDetailsService {
     private final CustomerRepository customerRepository;
 //    private final PasswordEncoder passwordEncoder;
 
+    /**
+     * Runs in a read-write transaction so the lookup goes to the primary: a customer who
+     * has just registered must be able to log in before the replica has caught up.
+     * The customer is still served from the second-level cache when it is there.
+     */
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String customerId) throws UsernameNotFoundException {
         log.debug("Loading user details for customer: {}", customerId);
 
@@ -1,67 +1,146 @@
 package com.ebanking.security;
 
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT Authentication Filter for validating JWT tokens in incoming requests.
  * 
  * This filter extracts JWT tokens from the Authorization header, validates them,
  * and sets up the security context for authenticated users.
+ *
+ * Each stage is timed into {@code security.jwt.filter} tagged by stage and outcome.
+ * A fraction of requests, set by {@code app.security.trace.sample-rate}, is also
+ * logged at INFO with the per-stage breakdown, so full security DEBUG logging
+ * does not have to be enabled to see what the filter is doing.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String METRIC_NAME = "security.jwt.filter";
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final Meter.MeterProvider<Timer> stageTimers;
+
+    @Value("${app.security.trace.sample-rate:0.0}")
+    private double traceSampleRate;
+
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserDetailsService userDetailsService,
+                                   MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.stageTimers = Timer.builder(METRIC_NAME)
+                .description("Time spent in the JWT authentication filter by stage")
+                .withRegistry(meterRegistry);
+    }
 
     @Override
     public void doFilterInternal(HttpServletRequest request,
                                  HttpServletResponse response,
                                  FilterChain filterChain) throws ServletException, IOException {
-        
+
+        final long start = System.nanoTime();
+        long extractNanos = 0;
+        long verifyNanos = 0;
+        long lookupNanos = 0;
+        long validateNanos = 0;
+        String outcome = "anonymous";
+
         try {
             final String jwt = getJwtFromRequest(request);
+            extractNanos = System.nanoTime() - start;
+            record("extract", StringUtils.hasText(jwt) ? "present" : "absent", extractNanos);
             
             if (StringUtils.hasText(jwt)) {
-                final String customerId = jwtService.extractCustomerId(jwt);
+                long stageStart = System.nanoTime();
+                final String customerId;
+                try {
+                    customerId = jwtService.extractCustomerId(jwt);
+                } catch (RuntimeException e) {
+                    verifyNanos = System.nanoTime() - stageStart;
+                    record("verify", "invalid", verifyNanos);
+                    throw e;
+                }
+                verifyNanos = System.nanoTime() - stageStart;
+                record("verify", "success", verifyNanos);
                 
                 if (StringUtils.hasText(customerId) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(customerId);
+                    stageStart = System.nanoTime();
+                    UserDetails userDetails;
+                    try {
+                        userDetails = userDetailsService.loadUserByUsername(customerId);
+                    } catch (UsernameNotFoundException e) {
+                        lookupNanos = System.nanoTime() - stageStart;
+                        record("user_lookup", "not_found", lookupNanos);
+                        throw e;
+                    }
+                    lookupNanos = System.nanoTime() - stageStart;
+                    record("user_lookup", "found", lookupNanos);
+
+                    stageStart = System.nanoTime();
+                    boolean valid = jwtService.isTokenValid(jwt, userDetails);
+                    validateNanos = System.nanoTime() - stageStart;
+                    record("validate", valid ? "valid" : "invalid", validateNanos);
                     
-                    if (jwtService.isTokenValid(jwt, userDetails)) {
+                    if (valid) {
                         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities());
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authToken);
+                        outcome = "authenticated";
                         
                         log.debug("JWT authentication successful for customer: {}", customerId);
+                    } else {
+                        outcome = "rejected";
                     }
                 }
             }
         } catch (Exception e) {
+            outcome = "error";
             log.error("JWT authentication failed: {}", e.getMessage());
             // Don't throw exception here to allow other filters to process
         }
+
+        long totalNanos = System.nanoTime() - start;
+        record("total", outcome, totalNanos);
+
+        if (traceSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < traceSampleRate) {
+            log.info("JWT filter trace {} {} outcome={} totalUs={} extractUs={} verifyUs={} lookupUs={} validateUs={}",
+                    request.getMethod(), request.getRequestURI(), outcome,
+                    TimeUnit.NANOSECONDS.toMicros(totalNanos), TimeUnit.NANOSECONDS.toMicros(extractNanos),
+                    TimeUnit.NANOSECONDS.toMicros(verifyNanos), TimeUnit.NANOSECONDS.toMicros(lookupNanos),
+                    TimeUnit.NANOSECONDS.toMicros(validateNanos));
+        }
         
         filterChain.doFilter(request, response);
     }
 
+    private void record(String stage, String outcome, long nanos) {
+        stageTimers.withTags("stage", stage, "outcome", outcome).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Extracts JWT token from the Authorization header.
      * 
@@ -75,4 +154,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-} 
\ No newline at end of file
+} 
@@ -111,6 +111,15 @@ public class JwtService {
         return (customerId.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
 
+    /**
+     * Gets the access token lifetime.
+     *
+     * @return Lifetime in milliseconds
+     */
+    public long getExpiration() {
+        return jwtExpiration;
+    }
+
     /**
      * Generates JWT token for a customer.
      * 
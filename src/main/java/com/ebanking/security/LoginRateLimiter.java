@@ -0,0 +1,121 @@
+package com.ebanking.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Rate limiter for the credential endpoints.
+ *
+ * Keeps one {@link TokenBucket} per customer ID and one per remote address in
+ * bounded maps whose entries expire after a period of inactivity, so a flood of
+ * distinct keys cannot grow memory without limit.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final int customerCapacity;
+    private final Duration customerRefillPeriod;
+    private final int addressCapacity;
+    private final Duration addressRefillPeriod;
+
+    private final Cache<String, TokenBucket> customerBuckets;
+    private final Cache<String, TokenBucket> addressBuckets;
+
+    private final Counter customerRejections;
+    private final Counter addressRejections;
+
+    public LoginRateLimiter(
+            @Value("${app.security.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.security.rate-limit.customer.capacity:5}") int customerCapacity,
+            @Value("${app.security.rate-limit.customer.refill-period:1m}") Duration customerRefillPeriod,
+            @Value("${app.security.rate-limit.address.capacity:20}") int addressCapacity,
+            @Value("${app.security.rate-limit.address.refill-period:1m}") Duration addressRefillPeriod,
+            @Value("${app.security.rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${app.security.rate-limit.idle-expiry:10m}") Duration idleExpiry,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.customerCapacity = customerCapacity;
+        this.customerRefillPeriod = customerRefillPeriod;
+        this.addressCapacity = addressCapacity;
+        this.addressRefillPeriod = addressRefillPeriod;
+
+        this.customerBuckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        this.addressBuckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+
+        this.customerRejections = Counter.builder("auth.rate_limit.rejected")
+                .description("Credential requests rejected by the rate limiter")
+                .tag("key", "customer")
+                .register(meterRegistry);
+        this.addressRejections = Counter.builder("auth.rate_limit.rejected")
+                .description("Credential requests rejected by the rate limiter")
+                .tag("key", "address")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the bucket of a customer ID.
+     *
+     * @param customerId Customer ID
+     * @return true if the request may proceed, false if it must be rejected
+     */
+    public boolean tryAcquireForCustomer(String customerId) {
+        if (!enabled || customerId == null) {
+            return true;
+        }
+        TokenBucket bucket = customerBuckets.get(customerId,
+                key -> new TokenBucket(customerCapacity, customerRefillPeriod));
+        if (bucket.tryConsume()) {
+            return true;
+        }
+        customerRejections.increment();
+        log.warn("Rate limit exceeded for customer: {}", customerId);
+        return false;
+    }
+
+    /**
+     * Takes a token from the bucket of a remote address.
+     *
+     * @param address Remote address
+     * @return true if the request may proceed, false if it must be rejected
+     */
+    public boolean tryAcquireForAddress(String address) {
+        if (!enabled || address == null) {
+            return true;
+        }
+        TokenBucket bucket = addressBuckets.get(address,
+                key -> new TokenBucket(addressCapacity, addressRefillPeriod));
+        if (bucket.tryConsume()) {
+            return true;
+        }
+        addressRejections.increment();
+        log.warn("Rate limit exceeded for address: {}", address);
+        return false;
+    }
+
+    /**
+     * Gets the suggested retry delay for a rejected address.
+     *
+     * @param address Remote address
+     * @return Delay in whole seconds, at least one
+     */
+    public long retryAfterSeconds(String address) {
+        TokenBucket bucket = addressBuckets.getIfPresent(address);
+        long seconds = bucket != null ? bucket.timeUntilNextToken().toSeconds() : 0;
+        return Math.max(1, seconds);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ebanking.security;
+
+import com.ebanking.domain.RefreshToken;
+import com.ebanking.exception.InvalidRefreshTokenException;
+import com.ebanking.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Refresh Token Service for issuing and rotating refresh tokens.
+ *
+ * Refresh tokens are opaque random strings; only their SHA-256 hash is stored.
+ * Every refresh consumes the presented token and issues a new one in the same
+ * family. Presenting an already consumed token is treated as theft and revokes
+ * the whole family.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${app.security.jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    /**
+     * Issues a refresh token starting a new token family.
+     *
+     * @param customerId Customer ID
+     * @return Opaque refresh token
+     */
+    @Transactional
+    public String issue(String customerId) {
+        return issue(customerId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consumes a refresh token and issues its successor.
+     *
+     * @param rawToken Refresh token presented by the client
+     * @return Customer ID and the new refresh token
+     * @throws InvalidRefreshTokenException if the token is unknown, expired, revoked or reused
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public RotatedToken rotate(String rawToken) {
+        Instant now = Instant.now();
+        RefreshToken current = refreshTokenRepository.findById(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token is not recognised"));
+
+        if (current.isRevoked()) {
+            throw new InvalidRefreshTokenException("Refresh token has been revoked");
+        }
+        if (current.isExpired(now)) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+        if (refreshTokenRepository.markUsed(current.getTokenHash(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId());
+            log.warn("Refresh token reuse detected for customer: {}, revoked {} tokens",
+                    current.getCustomerId(), revoked);
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+
+        String next = issue(current.getCustomerId(), current.getFamilyId());
+        return new RotatedToken(current.getCustomerId(), next);
+    }
+
+    /**
+     * Removes expired refresh tokens.
+     */
+    @Scheduled(fixedDelayString = "${app.security.jwt.refresh-purge-interval:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.debug("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(String customerId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .customerId(customerId)
+                .familyId(familyId)
+                .expiresAt(Instant.now().plusMillis(refreshExpiration))
+                .build());
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Result of a successful rotation.
+     */
+    public record RotatedToken(String customerId, String refreshToken) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.ebanking.security;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ *
+ * Implemented as a generic cell rate algorithm: the whole bucket state is a single
+ * "theoretical arrival time" updated with compare-and-set, so concurrent callers
+ * never block and no per-call allocation takes place.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity Maximum number of tokens (burst size)
+     * @param refillPeriod Time to refill an empty bucket
+     */
+    public TokenBucket(int capacity, Duration refillPeriod) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return true if a token was taken, false if the bucket is empty
+     */
+    public boolean tryConsume() {
+        return tryConsume(System.nanoTime());
+    }
+
+    /**
+     * Takes one token if available at the given time.
+     *
+     * @param nowNanos Current time from {@link System#nanoTime()}
+     * @return true if a token was taken, false if the bucket is empty
+     */
+    public boolean tryConsume(long nowNanos) {
+        for (;;) {
+            long current = theoreticalArrival.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long next = base + emissionIntervalNanos;
+            if (next - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the time until the next token becomes available.
+     *
+     * @return Wait time, zero if a token is available now
+     */
+    public Duration timeUntilNextToken() {
+        long wait = theoreticalArrival.get() + emissionIntervalNanos - System.nanoTime() - burstToleranceNanos;
+        return wait > 0 ? Duration.ofNanos(wait) : Duration.ZERO;
+    }
+}
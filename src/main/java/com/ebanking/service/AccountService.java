@@ -6,11 +6,13 @@ import com.ebanking.repository.AccountRepository;
 import com.ebanking.repository.CustomerRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class AccountService {
 
     private final AccountRepository accountRepository;
@@ -20,6 +22,7 @@ public class AccountService {
         return accountRepository.findByCustomer_Id(customerId);
     }
 
+    @Transactional
     public Account createAccount(String customerId, String iban, String currency) {
         Customer customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
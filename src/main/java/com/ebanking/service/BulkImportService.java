@@ -0,0 +1,288 @@
+package com.ebanking.service;
+
+import com.ebanking.domain.Customer;
+import com.ebanking.dto.BulkAccountRequestDto;
+import com.ebanking.dto.BulkImportResponse;
+import com.ebanking.dto.TransactionRequestDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports accounts and transactions from NDJSON request bodies.
+ *
+ * The body is read one line at a time, so memory use is bounded by the chunk size rather
+ * than the body size. Each chunk is checked against the database with one query per lookup,
+ * written with a single JDBC batch and committed on its own, so a rejected chunk never undoes
+ * the chunks before it. Every rejected line is reported with its line number.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private static final String INSERT_ACCOUNT_SQL =
+            "insert into account (iban, currency, customer_id) values (?, ?, ?)";
+    private static final String INSERT_TRANSACTION_SQL =
+            "insert into transactions (id, account_iban, amount, currency, value_date, description, customer_id) "
+                    + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final ObjectReader accountReader;
+    private final ObjectReader transactionReader;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final EntityManagerFactory entityManagerFactory;
+    private final StatementResponseCache statementResponseCache;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public BulkImportService(
+            ObjectMapper objectMapper,
+            Validator validator,
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            TransactionIdGenerator transactionIdGenerator,
+            EntityManagerFactory entityManagerFactory,
+            StatementResponseCache statementResponseCache,
+            @Value("${app.bulk-import.chunk-size:1000}") int chunkSize,
+            @Value("${app.bulk-import.max-reported-errors:1000}") int maxReportedErrors) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Bulk import chunk size must be at least 1");
+        }
+        this.accountReader = objectMapper.readerFor(BulkAccountRequestDto.class);
+        this.transactionReader = objectMapper.readerFor(TransactionRequestDto.class);
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.transactionIdGenerator = transactionIdGenerator;
+        this.entityManagerFactory = entityManagerFactory;
+        this.statementResponseCache = statementResponseCache;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Imports accounts, one {@link BulkAccountRequestDto} per line.
+     *
+     * @param body NDJSON request body
+     * @return Import report
+     * @throws IOException if the body cannot be read
+     */
+    public BulkImportResponse importAccounts(InputStream body) throws IOException {
+        return importLines(body, accountReader, this::writeAccounts);
+    }
+
+    /**
+     * Imports transactions, one {@link TransactionRequestDto} per line. The currency is
+     * taken from the account and the ID is generated.
+     *
+     * @param body NDJSON request body
+     * @return Import report
+     * @throws IOException if the body cannot be read
+     */
+    public BulkImportResponse importTransactions(InputStream body) throws IOException {
+        return importLines(body, transactionReader, this::writeTransactions);
+    }
+
+    private <T> BulkImportResponse importLines(InputStream body, ObjectReader reader, ChunkWriter<T> writer)
+            throws IOException {
+        BulkImportResponse report = new BulkImportResponse();
+        List<Line<T>> chunk = new ArrayList<>(chunkSize);
+        long started = System.nanoTime();
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String text;
+            long number = 0;
+            while ((text = lines.readLine()) != null) {
+                number++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                report.setReceived(report.getReceived() + 1);
+
+                T value;
+                try {
+                    value = reader.readValue(text);
+                } catch (JsonProcessingException e) {
+                    reject(report, number, "Malformed JSON: " + e.getOriginalMessage());
+                    continue;
+                }
+                String violations = violationsOf(value);
+                if (violations != null) {
+                    reject(report, number, violations);
+                    continue;
+                }
+
+                chunk.add(new Line<>(number, value));
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, writer, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, writer, report);
+        }
+
+        log.info("Bulk import finished: {} received, {} imported, {} failed in {} ms",
+                report.getReceived(), report.getImported(), report.getFailed(),
+                (System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    private <T> void writeChunk(List<Line<T>> chunk, ChunkWriter<T> writer, BulkImportResponse report) {
+        List<Line<T>> accepted = new ArrayList<>(chunk.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> writer.write(chunk, accepted, report));
+            report.setImported(report.getImported() + accepted.size());
+        } catch (DataAccessException e) {
+            String reason = "Chunk rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (Line<T> line : accepted) {
+                reject(report, line.number(), reason);
+            }
+        }
+    }
+
+    /**
+     * Writes the accounts of a chunk whose customer exists and whose IBAN is not taken.
+     */
+    private void writeAccounts(List<Line<BulkAccountRequestDto>> chunk, List<Line<BulkAccountRequestDto>> accepted,
+                               BulkImportResponse report) {
+        Set<String> knownCustomers = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select id from customer where id in (:ids)",
+                Map.of("ids", distinct(chunk, BulkAccountRequestDto::getCustomerId)), String.class));
+        Set<String> takenIbans = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "select iban from account where iban in (:ibans)",
+                Map.of("ibans", distinct(chunk, BulkAccountRequestDto::getIban)), String.class));
+
+        for (Line<BulkAccountRequestDto> line : chunk) {
+            BulkAccountRequestDto account = line.value();
+            if (!knownCustomers.contains(account.getCustomerId())) {
+                reject(report, line.number(), "Customer not found: " + account.getCustomerId());
+            } else if (!takenIbans.add(account.getIban())) {
+                reject(report, line.number(), "Account already exists: " + account.getIban());
+            } else {
+                accepted.add(line);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, accepted, accepted.size(), (ps, line) -> {
+            ps.setString(1, line.value().getIban());
+            ps.setString(2, line.value().getCurrency());
+            ps.setString(3, line.value().getCustomerId());
+        });
+
+        // The inserts bypass Hibernate, so cached account collections of these customers are stale
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (Line<BulkAccountRequestDto> line : accepted) {
+            cache.evictCollectionData(Customer.class.getName() + ".accounts", line.value().getCustomerId());
+        }
+    }
+
+    /**
+     * Writes the transactions of a chunk whose account exists.
+     */
+    private void writeTransactions(List<Line<TransactionRequestDto>> chunk, List<Line<TransactionRequestDto>> accepted,
+                                   BulkImportResponse report) {
+        Map<String, String[]> accounts = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "select iban, currency, customer_id from account where iban in (:ibans)",
+                Map.of("ibans", distinct(chunk, TransactionRequestDto::getAccountIban)),
+                (RowCallbackHandler) rs -> accounts.put(rs.getString(1), new String[]{rs.getString(2), rs.getString(3)}));
+
+        for (Line<TransactionRequestDto> line : chunk) {
+            if (accounts.containsKey(line.value().getAccountIban())) {
+                accepted.add(line);
+            } else {
+                reject(report, line.number(), "Account not found: " + line.value().getAccountIban());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, accepted, accepted.size(), (ps, line) -> {
+            TransactionRequestDto transaction = line.value();
+            String[] account = accounts.get(transaction.getAccountIban());
+            ps.setString(1, transactionIdGenerator.nextId());
+            ps.setString(2, transaction.getAccountIban());
+            ps.setBigDecimal(3, transaction.getAmount());
+            ps.setString(4, account[0]);
+            ps.setDate(5, Date.valueOf(transaction.getValueDate()));
+            ps.setString(6, transaction.getDescription());
+            ps.setString(7, account[1]);
+        });
+
+        // Back-dated rows change the cached responses of closed months; evicted once this chunk commits
+        Set<String> evicted = new HashSet<>();
+        for (Line<TransactionRequestDto> line : accepted) {
+            TransactionRequestDto transaction = line.value();
+            YearMonth month = YearMonth.from(transaction.getValueDate());
+            if (evicted.add(transaction.getAccountIban() + "/" + month)) {
+                statementResponseCache.evict(transaction.getAccountIban(),
+                        accounts.get(transaction.getAccountIban())[1], month);
+            }
+        }
+    }
+
+    private String violationsOf(Object value) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(value);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void reject(BulkImportResponse report, long line, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new BulkImportResponse.LineError(line, message));
+        }
+    }
+
+    private static <T> Set<String> distinct(List<Line<T>> chunk, Function<T, String> key) {
+        return chunk.stream().map(line -> key.apply(line.value())).collect(Collectors.toSet());
+    }
+
+    private record Line<T>(long number, T value) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<Line<T>> chunk, List<Line<T>> accepted, BulkImportResponse report);
+    }
+}
@@ -0,0 +1,207 @@
+package com.ebanking.service;
+
+import com.ebanking.domain.Account;
+import com.ebanking.dto.CustomerOverviewDto;
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.repository.AccountRepository;
+import com.ebanking.repository.TransactionRepository;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the overview of all accounts of a customer in one base currency.
+ *
+ * The per-account transaction queries and the per-currency rate lookups are started
+ * together on a bounded executor and joined before the results are converted and merged
+ * by value date. Each query runs in its own read-only repository transaction, so the
+ * request thread holds no connection while it waits.
+ *
+ * Each stage is timed into {@code transactions.overview} tagged by stage. The fan-out
+ * stages are measured from the start of the fan-out to the completion of their last task,
+ * so they overlap; {@code account_query} times every single account query.
+ */
+@Slf4j
+@Service
+public class CustomerOverviewService {
+
+    private static final String METRIC_NAME = "transactions.overview";
+    private static final Comparator<TransactionResponseDto> BY_VALUE_DATE =
+            Comparator.comparing(TransactionResponseDto::getValueDate).thenComparing(TransactionResponseDto::getId);
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final Meter.MeterProvider<Timer> stageTimers;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public CustomerOverviewService(AccountRepository accountRepository,
+                                   TransactionRepository transactionRepository,
+                                   ExchangeRateService exchangeRateService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.overview.threads:8}") int threads,
+                                   @Value("${app.overview.queue-capacity:500}") int queueCapacity,
+                                   @Value("${app.overview.timeout:10s}") Duration timeout) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.exchangeRateService = exchangeRateService;
+        this.stageTimers = Timer.builder(METRIC_NAME)
+                .description("Time spent building the customer overview by stage")
+                .withRegistry(meterRegistry);
+        // A full queue runs the task on the request thread, which slows callers down instead of failing them
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("overview-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.timeout = timeout;
+    }
+
+    /**
+     * Gets the overview of a customer's accounts.
+     *
+     * @param customerId Customer ID
+     * @param baseCurrency Currency for converted amounts and totals
+     * @return Overview and the time spent per stage in nanoseconds
+     */
+    public Overview getOverview(String customerId, String baseCurrency) {
+        Map<String, Long> stages = new LinkedHashMap<>();
+        long start = System.nanoTime();
+
+        List<Account> accounts = accountRepository.findByCustomer_Id(customerId);
+        long fanOutStart = System.nanoTime();
+        record(stages, "accounts", fanOutStart - start);
+
+        LocalDate today = LocalDate.now();
+        Map<String, CompletableFuture<BigDecimal>> rates = new LinkedHashMap<>();
+        for (Account account : accounts) {
+            rates.computeIfAbsent(account.getCurrency(), currency -> CompletableFuture.supplyAsync(
+                    () -> exchangeRateService.getRate(currency, baseCurrency, today), executor));
+        }
+        List<CompletableFuture<List<TransactionResponseDto>>> transactions = accounts.stream()
+                .map(account -> CompletableFuture.supplyAsync(() -> queryAccount(account.getIban()), executor))
+                .toList();
+
+        CompletableFuture<Long> ratesDone = CompletableFuture
+                .allOf(rates.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> System.nanoTime());
+        CompletableFuture<Long> transactionsDone = CompletableFuture
+                .allOf(transactions.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> System.nanoTime());
+        await(CompletableFuture.allOf(ratesDone, transactionsDone), rates, transactions);
+        record(stages, "rates", ratesDone.join() - fanOutStart);
+        record(stages, "transactions", transactionsDone.join() - fanOutStart);
+
+        long mergeStart = System.nanoTime();
+        CustomerOverviewDto overview = merge(accounts, baseCurrency, rates, transactions);
+        long end = System.nanoTime();
+        record(stages, "merge", end - mergeStart);
+        record(stages, "total", end - start);
+
+        log.debug("Overview for {} with {} accounts: {}", customerId, accounts.size(), stages);
+        return new Overview(overview, stages);
+    }
+
+    private List<TransactionResponseDto> queryAccount(String iban) {
+        long start = System.nanoTime();
+        try {
+            return transactionRepository.findResponseDtosByAccountIban(iban);
+        } finally {
+            stageTimers.withTags("stage", "account_query").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void await(CompletableFuture<Void> all, Map<String, CompletableFuture<BigDecimal>> rates,
+                       List<CompletableFuture<List<TransactionResponseDto>>> transactions) {
+        try {
+            all.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building the overview", e);
+        } catch (Exception e) {
+            rates.values().forEach(future -> future.cancel(true));
+            transactions.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Overview not built within " + timeout, e);
+        }
+    }
+
+    private CustomerOverviewDto merge(List<Account> accounts, String baseCurrency,
+                                      Map<String, CompletableFuture<BigDecimal>> rates,
+                                      List<CompletableFuture<List<TransactionResponseDto>>> transactions) {
+        List<CustomerOverviewDto.AccountOverview> accountOverviews = new ArrayList<>(accounts.size());
+        List<TransactionResponseDto> merged = new ArrayList<>();
+        BigDecimal totalDebit = BigDecimal.ZERO;
+        BigDecimal totalCredit = BigDecimal.ZERO;
+
+        for (int i = 0; i < accounts.size(); i++) {
+            Account account = accounts.get(i);
+            BigDecimal rate = rates.get(account.getCurrency()).join();
+            BigDecimal balance = BigDecimal.ZERO;
+            BigDecimal convertedBalance = BigDecimal.ZERO;
+
+            List<TransactionResponseDto> accountTransactions = transactions.get(i).join();
+            for (TransactionResponseDto transaction : accountTransactions) {
+                BigDecimal converted = transaction.getAmount().multiply(rate).setScale(2, RoundingMode.HALF_UP);
+                balance = balance.add(transaction.getAmount());
+                convertedBalance = convertedBalance.add(converted);
+                if (converted.signum() < 0) {
+                    totalDebit = totalDebit.add(converted.negate());
+                } else {
+                    totalCredit = totalCredit.add(converted);
+                }
+                merged.add(new TransactionResponseDto(transaction.getId(), transaction.getAccountIban(), baseCurrency,
+                        converted, transaction.getDescription(), transaction.getValueDate()));
+            }
+            accountOverviews.add(new CustomerOverviewDto.AccountOverview(account.getIban(), account.getCurrency(),
+                    accountTransactions.size(), balance, convertedBalance));
+        }
+        merged.sort(BY_VALUE_DATE);
+
+        CustomerOverviewDto overview = new CustomerOverviewDto();
+        overview.setBaseCurrency(baseCurrency);
+        overview.setAccounts(accountOverviews);
+        overview.setTransactions(merged);
+        overview.setTotalDebit(totalDebit);
+        overview.setTotalCredit(totalCredit);
+        return overview;
+    }
+
+    private void record(Map<String, Long> stages, String stage, long nanos) {
+        stages.put(stage, nanos);
+        stageTimers.withTags("stage", stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Overview with the time spent per stage, in stage order.
+     */
+    public record Overview(CustomerOverviewDto overview, Map<String, Long> stageNanos) {
+    }
+}
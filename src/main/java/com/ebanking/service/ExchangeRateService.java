@@ -8,10 +8,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -21,6 +25,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ExchangeRateService {
 
     private final RestTemplate restTemplate;
+
+    private final WebClient exchangeRateWebClient;
     
     @Value("${app.exchange-rate.api.base-url}")
     private String exchangeRateApiUrl;
@@ -53,8 +59,99 @@ public class ExchangeRateService {
         }
     }
 
+    /**
+     * Gets the rate from one currency to another, from the cache or the exchange-rate API.
+     * Falls back like {@link #convertToBaseCurrency} when the API cannot be used.
+     */
+    public BigDecimal getRate(String fromCurrency, String toCurrency, LocalDate date) {
+        if (fromCurrency.equalsIgnoreCase(toCurrency)) {
+            return BigDecimal.ONE;
+        }
+        return getExchangeRate(fromCurrency, toCurrency, date);
+    }
+
+    /**
+     * Gets the rates to one currency for a batch of (currency, value date) keys. Each source
+     * currency costs at most one API call however many dates it appears with, and rates
+     * already cached for a date are reused.
+     *
+     * @param keys Source currencies and value dates
+     * @param toCurrency Target currency
+     * @return Rate per key
+     */
+    public Map<RateKey, BigDecimal> getRates(Collection<RateKey> keys, String toCurrency) {
+        Map<RateKey, BigDecimal> rates = new HashMap<>(keys.size() * 2);
+        Map<String, BigDecimal> fetched = new HashMap<>();
+        for (RateKey key : keys) {
+            if (key.currency().equalsIgnoreCase(toCurrency)) {
+                rates.put(key, BigDecimal.ONE);
+                continue;
+            }
+            String cacheKey = cacheKey(key.currency(), toCurrency, key.date());
+            BigDecimal rate = rateCache.get(cacheKey);
+            if (rate == null) {
+                rate = fetched.computeIfAbsent(key.currency(),
+                        currency -> fetchExchangeRateFromApi(currency, toCurrency, key.date()));
+                rateCache.put(cacheKey, rate);
+            }
+            rates.put(key, rate);
+        }
+        log.debug("Resolved {} rates to {} with {} API lookups", rates.size(), toCurrency, fetched.size());
+        return rates;
+    }
+
+    /**
+     * Non-blocking variant of {@link #convertToBaseCurrency} for the streaming read API.
+     * Rates come from the same cache; a miss is fetched with the WebClient, so no thread
+     * waits on the exchange-rate API. Failures fall back like the blocking variant.
+     */
+    public Mono<BigDecimal> convertToBaseCurrencyAsync(BigDecimal amount, String fromCurrency, String toCurrency,
+                                                       LocalDate date) {
+        if (amount == null || fromCurrency == null || toCurrency == null) {
+            log.warn("Invalid parameters for currency conversion: amount={}, from={}, to={}",
+                    amount, fromCurrency, toCurrency);
+            return Mono.just(amount != null ? amount : BigDecimal.ZERO);
+        }
+        if (fromCurrency.equalsIgnoreCase(toCurrency)) {
+            return Mono.just(amount);
+        }
+
+        return getExchangeRateAsync(fromCurrency, toCurrency, date)
+                .map(exchangeRate -> amount.multiply(exchangeRate).setScale(2, RoundingMode.HALF_UP))
+                .onErrorResume(e -> {
+                    log.error("Error converting currency from {} to {}: {}", fromCurrency, toCurrency, e.getMessage());
+                    return Mono.just(amount);
+                });
+    }
+
+    private Mono<BigDecimal> getExchangeRateAsync(String fromCurrency, String toCurrency, LocalDate date) {
+        String cacheKey = cacheKey(fromCurrency, toCurrency, date);
+        BigDecimal cachedRate = rateCache.get(cacheKey);
+        if (cachedRate != null) {
+            return Mono.just(cachedRate);
+        }
+
+        return exchangeRateWebClient.get()
+                .uri("/{currency}", fromCurrency)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(response -> {
+                    BigDecimal rate = extractRate(response, toCurrency);
+                    if (rate == null) {
+                        log.warn("Could not extract exchange rate from API response for {} to {}", fromCurrency, toCurrency);
+                        return getMockExchangeRate(fromCurrency, toCurrency);
+                    }
+                    rateCache.put(cacheKey, rate);
+                    return rate;
+                })
+                .onErrorResume(e -> {
+                    log.warn("Error accessing exchange rate API for {} to {}: {}", fromCurrency, toCurrency, e.getMessage());
+                    return Mono.just(getMockExchangeRate(fromCurrency, toCurrency));
+                });
+    }
+
     private BigDecimal getExchangeRate(String fromCurrency, String toCurrency, LocalDate date) {
-        String cacheKey = String.format("%s_%s_%s", fromCurrency, toCurrency, date);
+        String cacheKey = cacheKey(fromCurrency, toCurrency, date);
         
         // Check cache first
         BigDecimal cachedRate = rateCache.get(cacheKey);
@@ -86,17 +183,9 @@ public class ExchangeRateService {
             log.debug("Fetching exchange rate from API: {}", url);
             
             Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-            
-            if (response != null && response.containsKey("rates")) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> rates = (Map<String, Object>) response.get("rates");
-                
-                if (rates.containsKey(toCurrency)) {
-                    Object rateObj = rates.get(toCurrency);
-                    if (rateObj instanceof Number) {
-                        return new BigDecimal(rateObj.toString());
-                    }
-                }
+            BigDecimal rate = extractRate(response, toCurrency);
+            if (rate != null) {
+                return rate;
             }
             
             log.warn("Could not extract exchange rate from API response for {} to {}", fromCurrency, toCurrency);
@@ -115,6 +204,23 @@ public class ExchangeRateService {
         }
     }
 
+    private static String cacheKey(String fromCurrency, String toCurrency, LocalDate date) {
+        return String.format("%s_%s_%s", fromCurrency, toCurrency, date);
+    }
+
+    /**
+     * Reads the rate for the target currency from an exchange-rate API response.
+     *
+     * @return the rate, or null if the response does not contain one
+     */
+    private BigDecimal extractRate(Map<?, ?> response, String toCurrency) {
+        if (response != null && response.get("rates") instanceof Map<?, ?> rates
+                && rates.get(toCurrency) instanceof Number rate) {
+            return new BigDecimal(rate.toString());
+        }
+        return null;
+    }
+
     /**
      * Check if the external API is available.
      */
@@ -151,4 +257,10 @@ public class ExchangeRateService {
         rateCache.clear();
         log.debug("Exchange rate cache cleared");
     }
-}
\ No newline at end of file
+
+    /**
+     * Source currency and value date of an amount to convert.
+     */
+    public record RateKey(String currency, LocalDate date) {
+    }
+}
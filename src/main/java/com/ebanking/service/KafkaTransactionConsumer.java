@@ -52,19 +52,26 @@ import com.ebanking.repository.AccountRepository;
 import com.ebanking.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
+import java.sql.SQLException;
+import java.time.YearMonth;
 import java.util.Optional;
-import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KafkaTransactionConsumer {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final StatementResponseCache statementResponseCache;
 
     @KafkaListener(
             topics = "transactions",
@@ -74,7 +81,8 @@ public class KafkaTransactionConsumer {
     public void consume(TransactionKafkaDto dto) {
         log.info("Received transaction from Kafka: {}", dto);
 
-        Optional<Account> accountOpt = accountRepository.findById(dto.getAccountIban());
+        // Read from the primary so an account created moments ago is not missed through replica lag
+        Optional<Account> accountOpt = accountRepository.findByIbanForWrite(dto.getAccountIban());
         if (accountOpt.isEmpty()) {
             log.error("Account with IBAN {} not found. Transaction will not be saved.", dto.getAccountIban());
             return;
@@ -83,7 +91,7 @@ public class KafkaTransactionConsumer {
         Account account = accountOpt.get();
 
         Transaction transaction = Transaction.builder()
-                .id(dto.getId() != null ? dto.getId() : UUID.randomUUID().toString())
+                .id(dto.getId() != null ? dto.getId() : transactionIdGenerator.nextId())
                 .account(account)
                 .amount(dto.getAmount())
                 .currency(account.getCurrency()) // Always use the account's currency
@@ -91,7 +99,37 @@ public class KafkaTransactionConsumer {
                 .description(dto.getDescription())
                 .build();
 
-        transactionRepository.save(transaction);
+        try {
+            transactionRepository.save(transaction);
+        } catch (DataIntegrityViolationException e) {
+            // Any other violation (foreign key, check, partition range) must not be taken for a redelivery
+            if (!isDuplicateKey(e)) {
+                throw e;
+            }
+            // New transactions are inserted rather than merged, so a redelivered message hits the primary key
+            log.warn("Transaction {} already exists. Skipping redelivered message.", transaction.getId());
+            return;
+        }
         log.info("Transaction saved to database: {}", transaction.getId());
+
+        // A back-dated transaction changes the cached responses of its (closed) month
+        if (transaction.getValueDate() != null) {
+            statementResponseCache.evict(account.getIban(),
+                    account.getCustomer() != null ? account.getCustomer().getId() : null,
+                    YearMonth.from(transaction.getValueDate()));
+        }
+    }
+
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        // Through JPA the constraint violation is not translated further; check its SQL state
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return UNIQUE_VIOLATION.equals(sqlException.getSQLState());
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
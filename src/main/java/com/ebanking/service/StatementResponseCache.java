@@ -0,0 +1,249 @@
+package com.ebanking.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the serialized JSON of monthly responses for closed months.
+ *
+ * A month is closed once it is over, so its transactions only change when a back-dated
+ * transaction is written; every write path calls {@link #evict} after its commit. Entries
+ * hold the response bytes (gzip-compressed when enabled) and their ETag, so a hit costs
+ * neither a query nor serialization, and a matching {@code If-None-Match} gets a 304.
+ * Responses for the current month are serialized per request and get an ETag but are
+ * not stored.
+ *
+ * A response that is going to be stored is built in a read-write transaction, so with
+ * replica routing it is read from the primary: a request that starts right after the
+ * eviction would otherwise store the month as a lagging replica still has it.
+ *
+ * The cache is local to the instance. Another instance only sees an eviction once its
+ * entry expires ({@code app.statement-cache.expire-after-write}).
+ */
+@Slf4j
+@Component
+public class StatementResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations transactionOperations;
+    private final boolean enabled;
+    private final boolean compress;
+    private final Cache<Key, Entry> cache;
+    // Bumped by every eviction; a response built across one is not stored, as it may predate the write
+    private final AtomicLong evictions = new AtomicLong();
+    private final Counter notModified;
+
+    public StatementResponseCache(ObjectMapper objectMapper,
+                                  TransactionOperations transactionOperations,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.statement-cache.enabled:true}") boolean enabled,
+                                  @Value("${app.statement-cache.max-size:64MB}") DataSize maxSize,
+                                  @Value("${app.statement-cache.expire-after-write:1h}") Duration expireAfterWrite,
+                                  @Value("${app.statement-cache.gzip:true}") boolean gzip) {
+        this.objectMapper = objectMapper;
+        this.transactionOperations = transactionOperations;
+        this.enabled = enabled;
+        this.compress = gzip;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Entry entry) -> entry.body().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "statement.responses");
+        this.notModified = Counter.builder("statement.responses.not_modified")
+                .description("Monthly responses answered with 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Answers a monthly request from the cache, building and storing the response on a miss.
+     *
+     * @param key Account or customer, month and base currency of the response
+     * @param request Request, for its If-None-Match and Accept-Encoding headers
+     * @param body Builds the response body on a miss
+     * @return JSON response, or 304 if the client's copy is current
+     */
+    public ResponseEntity<byte[]> respond(Key key, WebRequest request, Supplier<?> body) {
+        boolean cacheable = enabled && key.month().isBefore(YearMonth.now());
+        Entry entry = cacheable ? cache.getIfPresent(key) : null;
+        if (entry == null) {
+            long evictionsBefore = evictions.get();
+            // The read-only service transaction joins this one and so reads from the primary
+            Object value = cacheable ? transactionOperations.execute(status -> body.get()) : body.get();
+            entry = serialize(value, cacheable && compress);
+            if (cacheable && evictions.get() == evictionsBefore) {
+                cache.put(key, entry);
+            }
+        }
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), entry.etag())) {
+            notModified.increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(entry.etag());
+        if (!entry.gzipped()) {
+            return response.body(entry.body());
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.body());
+        }
+        return response.body(gunzip(entry.body()));
+    }
+
+    /**
+     * Evicts the responses a transaction written for an account and month can change: the
+     * account's monthly responses and its customer's statements for that month. Inside a
+     * transaction the eviction happens after commit, so the old rows cannot be cached again.
+     *
+     * @param accountIban Account IBAN
+     * @param customerId Customer ID of the account, may be null
+     * @param month Month of the transaction's value date
+     */
+    public void evict(String accountIban, String customerId, YearMonth month) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(accountIban, customerId, month);
+                }
+            });
+        } else {
+            evictNow(accountIban, customerId, month);
+        }
+    }
+
+    public void clear() {
+        evictions.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private void evictNow(String accountIban, String customerId, YearMonth month) {
+        evictions.incrementAndGet();
+        if (!month.isBefore(YearMonth.now())) {
+            return;
+        }
+        boolean evicted = cache.asMap().keySet().removeIf(key -> key.month().equals(month)
+                && (accountIban.equals(key.accountIban())
+                || key.accountIban() == null && customerId != null && customerId.equals(key.customerId())));
+        if (evicted) {
+            log.debug("Evicted cached responses of {} for {}", accountIban, month);
+        }
+    }
+
+    private Entry serialize(Object body, boolean compress) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response", e);
+        }
+        // Weak, so the same tag stands for the identity and the gzip representation
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+        return compress ? new Entry(gzip(json), true, etag) : new Entry(json, false, etag);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = etag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Identifies a monthly response: an account's month (with the customer it was scoped
+     * to, if any) or a customer's statement in a base currency.
+     */
+    public record Key(String accountIban, String customerId, YearMonth month, String baseCurrency) {
+        public Key {
+            Objects.requireNonNull(month, "month");
+        }
+
+        public static Key account(String accountIban, YearMonth month) {
+            return new Key(accountIban, null, month, null);
+        }
+
+        public static Key accountForCustomer(String accountIban, String customerId, YearMonth month) {
+            return new Key(accountIban, customerId, month, null);
+        }
+
+        public static Key statement(String customerId, YearMonth month, String baseCurrency) {
+            return new Key(null, customerId, month, baseCurrency);
+        }
+    }
+
+    private record Entry(byte[] body, boolean gzipped, String etag) {
+    }
+}
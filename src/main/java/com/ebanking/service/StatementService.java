@@ -0,0 +1,104 @@
+package com.ebanking.service;
+
+import com.ebanking.dto.StatementDto;
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.repository.TransactionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds monthly customer statements converted to a base currency.
+ *
+ * Rates are resolved once per distinct (currency, value date) pair in a single batch
+ * before any row is converted, so a statement costs at most one rate lookup per source
+ * currency rather than one per transaction. Converted amounts are rounded to the base
+ * currency's minor unit and totalled as longs.
+ *
+ * Not transactional on purpose: the repository query runs in its own read-only
+ * transaction, so no connection is held while rates are fetched.
+ */
+@Slf4j
+@Service
+public class StatementService {
+
+    private final TransactionRepository transactionRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final Timer statementTimer;
+
+    public StatementService(TransactionRepository transactionRepository,
+                            ExchangeRateService exchangeRateService,
+                            MeterRegistry meterRegistry) {
+        this.transactionRepository = transactionRepository;
+        this.exchangeRateService = exchangeRateService;
+        this.statementTimer = Timer.builder("transactions.statement")
+                .description("Time spent building a monthly statement")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the statement of all of a customer's accounts for one month.
+     *
+     * @param customerId Customer ID
+     * @param month Statement month
+     * @param baseCurrency Currency for converted amounts and totals
+     * @return Statement
+     */
+    public StatementDto getStatement(String customerId, YearMonth month, String baseCurrency) {
+        return statementTimer.record(() -> buildStatement(customerId, month, baseCurrency));
+    }
+
+    private StatementDto buildStatement(String customerId, YearMonth month, String baseCurrency) {
+        List<TransactionResponseDto> transactions = transactionRepository.findResponseDtosByCustomerIdAndValueDateRange(
+                customerId, month.atDay(1), month.plusMonths(1).atDay(1));
+
+        Set<ExchangeRateService.RateKey> keys = new HashSet<>();
+        for (TransactionResponseDto transaction : transactions) {
+            keys.add(new ExchangeRateService.RateKey(transaction.getCurrency(), transaction.getValueDate()));
+        }
+        Map<ExchangeRateService.RateKey, BigDecimal> rates = exchangeRateService.getRates(keys, baseCurrency);
+
+        int scale = Currency.getInstance(baseCurrency).getDefaultFractionDigits();
+        long totalCredit = 0;
+        long totalDebit = 0;
+        List<StatementDto.Entry> entries = new ArrayList<>(transactions.size());
+        for (TransactionResponseDto transaction : transactions) {
+            BigDecimal rate = rates.get(new ExchangeRateService.RateKey(transaction.getCurrency(), transaction.getValueDate()));
+            long converted = transaction.getAmount().multiply(rate)
+                    .setScale(scale, RoundingMode.HALF_UP)
+                    .unscaledValue()
+                    .longValueExact();
+            if (converted > 0) {
+                totalCredit = Math.addExact(totalCredit, converted);
+            } else {
+                totalDebit = Math.subtractExact(totalDebit, converted);
+            }
+            entries.add(new StatementDto.Entry(transaction.getId(), transaction.getAccountIban(),
+                    transaction.getValueDate(), transaction.getDescription(), transaction.getAmount(),
+                    transaction.getCurrency(), rate, BigDecimal.valueOf(converted, scale)));
+        }
+
+        log.debug("Statement for {} {} in {}: {} transactions, {} rates", customerId, month, baseCurrency,
+                entries.size(), rates.size());
+
+        StatementDto statement = new StatementDto();
+        statement.setMonth(month);
+        statement.setBaseCurrency(baseCurrency);
+        statement.setEntries(entries);
+        statement.setTotalCredit(BigDecimal.valueOf(totalCredit, scale));
+        statement.setTotalDebit(BigDecimal.valueOf(totalDebit, scale));
+        return statement;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ebanking.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generator for time-ordered transaction ids (RFC 9562 UUID version 7).
+ *
+ * The top 48 bits hold the Unix time in milliseconds, so new keys append to the
+ * right edge of the primary-key index instead of landing at random pages. The 12-bit
+ * rand_a field is used as a per-thread counter within the same millisecond, which keeps
+ * ids from one thread strictly increasing. The 62 random bits come from
+ * {@link ThreadLocalRandom}, so there is no shared state and no contention between threads.
+ * Ids are not secrets, so a cryptographic source is not needed.
+ */
+@Component
+public class TransactionIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    /**
+     * Generates a new id.
+     *
+     * @return Lowercase 36-character UUIDv7 string
+     */
+    public String nextId() {
+        return nextUuid().toString();
+    }
+
+    /**
+     * Generates a new UUIDv7.
+     *
+     * @return UUID whose ordering follows generation order within a thread
+     */
+    public UUID nextUuid() {
+        State state = STATE.get();
+        long now = System.currentTimeMillis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (now > state.lastMillis) {
+            state.lastMillis = now;
+            // Start low in the counter space so a burst within one millisecond rarely overflows
+            state.counter = random.nextInt(MAX_COUNTER >> 1);
+        } else if (state.counter < MAX_COUNTER) {
+            // Same millisecond, or the clock moved backwards: keep the last timestamp
+            state.counter++;
+        } else {
+            // Counter exhausted for the last timestamp: borrow the next millisecond
+            state.lastMillis++;
+            state.counter = 0;
+        }
+
+        long msb = (state.lastMillis << 16) | 0x7000L | state.counter;
+        long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static final class State {
+        private long lastMillis = -1;
+        private int counter;
+    }
+}
@@ -0,0 +1,175 @@
+package com.ebanking.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Maintains the monthly partitions of the PostgreSQL {@code transactions} table.
+ *
+ * Partitions are created a few months ahead so inserts never find a missing range, and
+ * partitions older than the retention period are detached and renamed with an archive
+ * prefix. A detached partition is an ordinary table that can be dumped and dropped
+ * without touching the live table.
+ *
+ * Rows of a month without a partition go to {@code transactions_default}. A partition
+ * cannot be created over rows that the default partition holds, so when a new month's
+ * partition is created its rows are moved out of the default partition in the same
+ * transaction.
+ *
+ * Every replica runs the maintenance at startup and on the same schedule. A run takes a
+ * transaction-level advisory lock first and is skipped when another replica holds it, so
+ * the DDL on {@code transactions} runs on one replica at a time. The whole run is one
+ * transaction: a failed step leaves the partitions as they were before the run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.transactions.partitioning.enabled", havingValue = "true")
+public class TransactionPartitionMaintenance {
+
+    private static final String PARTITION_PREFIX = "transactions_";
+    private static final String ARCHIVE_PREFIX = "transactions_archive_";
+    private static final String DEFAULT_PARTITION = "transactions_default";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    // Arbitrary key shared by all replicas, the bytes of "txpart"
+    private static final long ADVISORY_LOCK_KEY = 0x7478_7061_7274L;
+
+    private static final String ATTACHED_PARTITIONS_SQL = """
+            select c.relname
+            from pg_inherits i
+            join pg_class c on c.oid = i.inhrelid
+            join pg_class p on p.oid = i.inhparent
+            where p.relname = 'transactions'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public TransactionPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            TransactionOperations transactionOperations,
+            @Value("${app.transactions.partitioning.months-ahead:3}") int monthsAhead,
+            @Value("${app.transactions.partitioning.retention-months:84}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Runs the maintenance once the application is ready. A failure is logged and left to
+     * the next scheduled run, so it never keeps a replica from starting.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            log.error("Transaction partition maintenance failed at startup, the next scheduled run retries", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.transactions.partitioning.cron:0 0 2 * * *}", zone = "UTC")
+    public void maintain() {
+        maintain(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Creates the partitions from the current month to {@code monthsAhead} months ahead and
+     * detaches the ones that fall out of the retention period.
+     *
+     * @param currentMonth Month to maintain from
+     * @return {@code false} if the run was skipped because another replica is maintaining
+     */
+    public boolean maintain(YearMonth currentMonth) {
+        return Boolean.TRUE.equals(transactionOperations.execute(status -> {
+            Boolean locked = jdbcTemplate.queryForObject(
+                    "select pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("Skipping transaction partition maintenance, another instance is running it");
+                return false;
+            }
+            for (int i = 0; i <= monthsAhead; i++) {
+                createPartition(currentMonth.plusMonths(i));
+            }
+            if (retentionMonths > 0) {
+                detachPartitionsBefore(currentMonth.minusMonths(retentionMonths));
+            }
+            Integer unpartitioned = jdbcTemplate.queryForObject(
+                    "select count(*) from " + DEFAULT_PARTITION, Integer.class);
+            if (unpartitioned != null && unpartitioned > 0) {
+                log.warn("{} transactions are in {} because their month has no partition", unpartitioned, DEFAULT_PARTITION);
+            }
+            return true;
+        }));
+    }
+
+    private void createPartition(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        String create = String.format(
+                "create table if not exists %s partition of transactions for values from ('%s') to ('%s')",
+                PARTITION_PREFIX + month.format(SUFFIX_FORMAT), from, to);
+
+        Integer parked = jdbcTemplate.queryForObject(
+                "select count(*) from " + DEFAULT_PARTITION + " where value_date >= ? and value_date < ?",
+                Integer.class, from, to);
+        if (parked == null || parked == 0) {
+            jdbcTemplate.execute(create);
+            return;
+        }
+
+        // Detached, the default partition no longer conflicts with the new range
+        transactionOperations.executeWithoutResult(status -> {
+            jdbcTemplate.execute("alter table transactions detach partition " + DEFAULT_PARTITION);
+            jdbcTemplate.execute(create);
+            jdbcTemplate.update("insert into transactions select * from " + DEFAULT_PARTITION
+                    + " where value_date >= ? and value_date < ?", from, to);
+            jdbcTemplate.update("delete from " + DEFAULT_PARTITION + " where value_date >= ? and value_date < ?", from, to);
+            jdbcTemplate.execute("alter table transactions attach partition " + DEFAULT_PARTITION + " default");
+        });
+        log.info("Moved {} transactions from {} to the new partition for {}", parked, DEFAULT_PARTITION, month);
+    }
+
+    private void detachPartitionsBefore(YearMonth oldestRetained) {
+        List<String> partitions = jdbcTemplate.queryForList(ATTACHED_PARTITIONS_SQL, String.class);
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month == null || !month.isBefore(oldestRetained)) {
+                continue;
+            }
+            // Renamed together with the detach: once detached, the next run no longer lists it
+            transactionOperations.executeWithoutResult(status -> {
+                jdbcTemplate.execute("alter table transactions detach partition " + partition);
+                jdbcTemplate.execute("alter table " + partition + " rename to " + ARCHIVE_PREFIX + month.format(SUFFIX_FORMAT));
+            });
+            log.info("Detached transaction partition {} for archival", partition);
+        }
+    }
+
+    private static YearMonth monthOf(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -80,42 +80,66 @@ package com.ebanking.service;
 
 import com.ebanking.domain.Account;
 import com.ebanking.domain.Transaction;
+import com.ebanking.dto.TransactionResponseDto;
 import com.ebanking.repository.AccountRepository;
 import com.ebanking.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final StatementResponseCache statementResponseCache;
 
+    @Transactional
     public Transaction createTransaction(String accountIban, BigDecimal amount, String description, LocalDate valueDate) {
         Account account = accountRepository.findById(accountIban)
                 .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountIban));
         Transaction transaction = Transaction.builder()
-                .id(UUID.randomUUID().toString())
+                .id(transactionIdGenerator.nextId())
                 .account(account)
                 .amount(amount)
                 .currency(account.getCurrency())
                 .description(description)
                 .valueDate(valueDate)
                 .build();
-        return transactionRepository.save(transaction);
+        Transaction saved = transactionRepository.save(transaction);
+        statementResponseCache.evict(accountIban, account.getCustomer() != null ? account.getCustomer().getId() : null,
+                YearMonth.from(valueDate));
+        return saved;
     }
 
-    public List<Transaction> getTransactionsByAccount(String accountIban) {
-        return transactionRepository.findByAccount_Iban(accountIban);
+    public List<TransactionResponseDto> getTransactionsByAccount(String accountIban) {
+        return transactionRepository.findResponseDtosByAccountIban(accountIban);
     }
 
-    public List<Transaction> getTransactionsByCustomer(String customerId) {
-        return transactionRepository.findByAccount_Customer_Id(customerId);
+    public List<TransactionResponseDto> getTransactionsByCustomer(String customerId) {
+        return transactionRepository.findResponseDtosByCustomerId(customerId);
+    }
+
+    public List<TransactionResponseDto> getTransactionsByAccountForCustomer(String accountIban, String customerId) {
+        return transactionRepository.findResponseDtosByAccountIbanAndCustomerId(accountIban, customerId);
+    }
+
+    public List<TransactionResponseDto> getTransactionsByAccountForMonth(String accountIban, YearMonth month) {
+        return transactionRepository.findResponseDtosByAccountIbanAndValueDateRange(
+                accountIban, month.atDay(1), month.plusMonths(1).atDay(1));
+    }
+
+    public List<TransactionResponseDto> getTransactionsByAccountForCustomerAndMonth(String accountIban, String customerId,
+                                                                                    YearMonth month) {
+        return transactionRepository.findResponseDtosByAccountIbanAndCustomerIdAndValueDateRange(
+                accountIban, customerId, month.atDay(1), month.plusMonths(1).atDay(1));
     }
 }
\ No newline at end of file
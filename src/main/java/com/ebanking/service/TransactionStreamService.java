@@ -0,0 +1,90 @@
+package com.ebanking.service;
+
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streams transaction read models as {@link Flux}es.
+ *
+ * Rows are read in keyset pages of {@code app.reactive.page-size} on the bounded JPA
+ * scheduler. At most one page is read ahead of the one the subscriber is consuming, so
+ * a slow client holds at most two pages in memory and no thread while it reads. Each
+ * page runs in its own read-only repository transaction.
+ */
+@Service
+public class TransactionStreamService {
+
+    /** Precedes every row: value_date is not null and every ID is longer than "". */
+    private static final LocalDate FIRST_DATE = LocalDate.of(1, 1, 1);
+    private static final String FIRST_ID = "";
+
+    private final TransactionRepository transactionRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final Scheduler jpaScheduler;
+    private final Pageable page;
+
+    public TransactionStreamService(TransactionRepository transactionRepository,
+                                    ExchangeRateService exchangeRateService,
+                                    Scheduler jpaScheduler,
+                                    @Value("${app.reactive.page-size:500}") int pageSize) {
+        this.transactionRepository = transactionRepository;
+        this.exchangeRateService = exchangeRateService;
+        this.jpaScheduler = jpaScheduler;
+        this.page = PageRequest.ofSize(pageSize);
+    }
+
+    public Flux<TransactionResponseDto> streamTransactionsByCustomer(String customerId) {
+        return streamPages((afterDate, afterId) ->
+                transactionRepository.findResponseDtosByCustomerIdAfter(customerId, afterDate, afterId, page));
+    }
+
+    public Flux<TransactionResponseDto> streamTransactionsByAccountForCustomer(String accountIban, String customerId) {
+        return streamPages((afterDate, afterId) ->
+                transactionRepository.findResponseDtosByAccountIbanAndCustomerIdAfter(
+                        accountIban, customerId, afterDate, afterId, page));
+    }
+
+    /**
+     * Converts the amount and currency of each transaction to the target currency, keeping
+     * the stream order. Conversions run concurrently, with at most 32 outstanding lookups.
+     */
+    public Flux<TransactionResponseDto> convertTo(Flux<TransactionResponseDto> transactions, String currency) {
+        return transactions.flatMapSequential(transaction -> exchangeRateService
+                .convertToBaseCurrencyAsync(transaction.getAmount(), transaction.getCurrency(), currency,
+                        transaction.getValueDate())
+                .map(amount -> new TransactionResponseDto(transaction.getId(), transaction.getAccountIban(), currency,
+                        amount, transaction.getDescription(), transaction.getValueDate())), 32);
+    }
+
+    private Flux<TransactionResponseDto> streamPages(PageQuery query) {
+        return fetch(query, FIRST_DATE, FIRST_ID)
+                .expand(rows -> {
+                    if (rows.size() < page.getPageSize()) {
+                        return Mono.empty();
+                    }
+                    TransactionResponseDto last = rows.get(rows.size() - 1);
+                    return fetch(query, last.getValueDate(), last.getId());
+                })
+                .concatMapIterable(Function.identity(), 1);
+    }
+
+    private Mono<List<TransactionResponseDto>> fetch(PageQuery query, LocalDate afterDate, String afterId) {
+        return Mono.fromCallable(() -> query.after(afterDate, afterId)).subscribeOn(jpaScheduler);
+    }
+
+    @FunctionalInterface
+    private interface PageQuery {
+        List<TransactionResponseDto> after(LocalDate afterDate, String afterId);
+    }
+}
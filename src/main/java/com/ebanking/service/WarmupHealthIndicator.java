@@ -0,0 +1,37 @@
+package com.ebanking.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health of the warm-up, included in the readiness group as {@code warmup}.
+ *
+ * Out of service until {@link WarmupRunner} has finished, then up with the timings per
+ * path. Always up when the warm-up is disabled. A failed path is reported in the details
+ * but does not make the replica unready.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    public WarmupHealthIndicator(WarmupRunner warmupRunner) {
+        this.warmupRunner = warmupRunner;
+    }
+
+    @Override
+    public Health health() {
+        if (!warmupRunner.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        WarmupRunner.Report report = warmupRunner.getReport();
+        if (report == null) {
+            return Health.outOfService().withDetail("state", "running").build();
+        }
+        return Health.up()
+                .withDetail("durationMs", report.duration().toMillis())
+                .withDetail("paths", report.paths())
+                .build();
+    }
+}
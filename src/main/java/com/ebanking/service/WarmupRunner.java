@@ -0,0 +1,290 @@
+package com.ebanking.service;
+
+import com.ebanking.dto.AccountTransactionsSummaryDto;
+import com.ebanking.dto.TransactionKafkaDto;
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.repository.AccountRepository;
+import com.ebanking.security.JwtService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a synthetic workload through the service paths before the application reports
+ * ready, so a new replica does not serve its first requests with cold JIT and caches.
+ *
+ * Application runners run after the web server has started and before the readiness
+ * state changes to accepting traffic, so {@code /actuator/health/readiness} stays down
+ * until the warm-up is over; {@link WarmupHealthIndicator} reports it in the readiness
+ * group as well. The paths are called in turn until each has run
+ * {@code app.warmup.iterations} times or {@code app.warmup.budget} is spent:
+ *
+ * <ul>
+ *     <li>token: JWT creation, parsing and validation</li>
+ *     <li>transactions: customer and monthly account queries, serialized to JSON</li>
+ *     <li>summary: summary totals and statement of a synthetic month, serialized to JSON</li>
+ *     <li>conversion: rates of {@code app.warmup.currencies}, which fills the rate cache</li>
+ *     <li>kafka: deserialization of a transaction message with the listener's deserializer</li>
+ * </ul>
+ *
+ * The first page of accounts is loaded once into the second-level cache. Queries use IDs
+ * that match no rows and nothing is written. A path that fails is dropped from the
+ * warm-up and reported; it never keeps the replica from becoming ready. Nothing is held
+ * open afterwards, so a checkpoint taken once the replica is ready restores a warm process.
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String CUSTOMER_ID = "warmup";
+    private static final String IBAN = "WARMUP0000000000";
+    private static final String METRIC_NAME = "warmup";
+
+    private final JwtService jwtService;
+    private final TransactionService transactionService;
+    private final StatementService statementService;
+    private final ExchangeRateService exchangeRateService;
+    private final AccountRepository accountRepository;
+    private final ObjectMapper objectMapper;
+    private final Deserializer<TransactionKafkaDto> kafkaDeserializer;
+    private final Meter.MeterProvider<Timer> pathTimers;
+    private final boolean enabled;
+    private final Duration budget;
+    private final int iterations;
+    private final int accounts;
+    private final List<String> currencies;
+    private final String baseCurrency;
+
+    private volatile Report report;
+
+    public WarmupRunner(JwtService jwtService,
+                        TransactionService transactionService,
+                        StatementService statementService,
+                        ExchangeRateService exchangeRateService,
+                        AccountRepository accountRepository,
+                        ObjectMapper objectMapper,
+                        ConsumerFactory<String, TransactionKafkaDto> transactionConsumerFactory,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.warmup.enabled:false}") boolean enabled,
+                        @Value("${app.warmup.budget:30s}") Duration budget,
+                        @Value("${app.warmup.iterations:1000}") int iterations,
+                        @Value("${app.warmup.accounts:500}") int accounts,
+                        @Value("${app.warmup.currencies:EUR,USD,CHF}") List<String> currencies,
+                        @Value("${app.warmup.base-currency:GBP}") String baseCurrency) {
+        this.jwtService = jwtService;
+        this.transactionService = transactionService;
+        this.statementService = statementService;
+        this.exchangeRateService = exchangeRateService;
+        this.accountRepository = accountRepository;
+        this.objectMapper = objectMapper;
+        Deserializer<TransactionKafkaDto> deserializer = transactionConsumerFactory.getValueDeserializer();
+        this.kafkaDeserializer = deserializer != null ? deserializer : new JsonDeserializer<>(TransactionKafkaDto.class);
+        this.pathTimers = Timer.builder(METRIC_NAME)
+                .description("Time per call of a warm-up path")
+                .withRegistry(meterRegistry);
+        this.enabled = enabled;
+        this.budget = budget;
+        this.iterations = iterations;
+        this.accounts = accounts;
+        this.currencies = currencies;
+        this.baseCurrency = baseCurrency;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Runs the warm-up paths within the budget.
+     *
+     * @return Timings per path
+     */
+    public Report warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+
+        Map<String, Runnable> actions = new LinkedHashMap<>();
+        actions.put("accounts", this::loadAccounts);
+        actions.put("token", this::verifyToken);
+        actions.put("transactions", this::listTransactions);
+        actions.put("summary", this::summarize);
+        actions.put("conversion", this::convert);
+        actions.put("kafka", this::deserializeMessage);
+
+        Map<String, PathStats> stats = new LinkedHashMap<>();
+        actions.keySet().forEach(path -> stats.put(path, new PathStats()));
+        for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+            boolean anyRan = false;
+            for (Map.Entry<String, Runnable> action : actions.entrySet()) {
+                PathStats pathStats = stats.get(action.getKey());
+                // Accounts are loaded into the cache once; the other paths repeat for the JIT
+                if (pathStats.error != null || (i > 0 && action.getKey().equals("accounts"))) {
+                    continue;
+                }
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+                run(action.getKey(), action.getValue(), pathStats);
+                anyRan = true;
+            }
+            if (!anyRan) {
+                break;
+            }
+        }
+
+        Map<String, PathReport> paths = new LinkedHashMap<>();
+        stats.forEach((path, pathStats) -> paths.put(path, pathStats.toReport()));
+        report = new Report(Duration.ofNanos(System.nanoTime() - start), paths);
+        log.info("Warm-up finished in {} ms: {}", report.duration().toMillis(), paths);
+        return report;
+    }
+
+    /**
+     * Gets the result of the warm-up.
+     *
+     * @return Timings per path, or null if the warm-up has not finished
+     */
+    public Report getReport() {
+        return report;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void run(String path, Runnable action, PathStats stats) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            stats.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.warn("Warm-up path {} failed and is skipped: {}", path, stats.error);
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        stats.record(nanos);
+        pathTimers.withTags("path", path).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void loadAccounts() {
+        accountRepository.findAll(PageRequest.of(0, accounts));
+    }
+
+    private void verifyToken() {
+        String token = jwtService.generateToken(CUSTOMER_ID);
+        UserDetails user = User.withUsername(jwtService.extractCustomerId(token)).password("").build();
+        if (!jwtService.isTokenValid(token, user)) {
+            throw new IllegalStateException("Warm-up token not valid");
+        }
+    }
+
+    private void listTransactions() {
+        serialize(transactionService.getTransactionsByCustomer(CUSTOMER_ID));
+        serialize(AccountTransactionsSummaryDto.of(transactionService.getTransactionsByAccountForCustomerAndMonth(
+                IBAN, CUSTOMER_ID, YearMonth.now())));
+    }
+
+    private void summarize() {
+        serialize(AccountTransactionsSummaryDto.of(syntheticTransactions()));
+        serialize(statementService.getStatement(CUSTOMER_ID, YearMonth.now().minusMonths(1), baseCurrency));
+    }
+
+    private void convert() {
+        LocalDate today = LocalDate.now();
+        for (String currency : currencies) {
+            exchangeRateService.convertToBaseCurrency(new BigDecimal("-123.45"), currency, baseCurrency, today);
+        }
+    }
+
+    private void deserializeMessage() {
+        TransactionKafkaDto message = new TransactionKafkaDto();
+        message.setAccountIban(IBAN);
+        message.setAmount(new BigDecimal("-42.50"));
+        message.setCurrency(baseCurrency);
+        message.setValueDate(LocalDate.now());
+        message.setDescription("Warm-up");
+        TransactionKafkaDto read = kafkaDeserializer.deserialize("transactions", serialize(message));
+        if (read == null || !IBAN.equals(read.getAccountIban())) {
+            throw new IllegalStateException("Warm-up message not read back");
+        }
+    }
+
+    private List<TransactionResponseDto> syntheticTransactions() {
+        LocalDate firstDay = YearMonth.now().atDay(1);
+        List<TransactionResponseDto> transactions = new ArrayList<>(31);
+        for (int day = 0; day < 31; day++) {
+            BigDecimal amount = BigDecimal.valueOf((day % 2 == 0 ? -1 : 1) * (1000L + day * 37L), 2);
+            transactions.add(new TransactionResponseDto("warmup-" + day, IBAN, baseCurrency, amount,
+                    "Warm-up " + day, firstDay.plusDays(day % 28)));
+        }
+        return transactions;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize warm-up value", e);
+        }
+    }
+
+    private static final class PathStats {
+        private int calls;
+        private long firstNanos;
+        private long restNanos;
+        private String error;
+
+        private void record(long nanos) {
+            if (calls++ == 0) {
+                firstNanos = nanos;
+            } else {
+                restNanos += nanos;
+            }
+        }
+
+        private PathReport toReport() {
+            double firstMillis = firstNanos / 1_000_000.0;
+            double meanMillis = calls > 1 ? restNanos / 1_000_000.0 / (calls - 1) : firstMillis;
+            return new PathReport(calls, firstMillis, meanMillis, error);
+        }
+    }
+
+    /**
+     * Timings of one warm-up path: the first call, which pays for class loading and cold
+     * caches, and the mean of the calls after it.
+     */
+    public record PathReport(int calls, double firstMillis, double meanMillis, String error) {
+    }
+
+    /**
+     * Result of the warm-up, with the paths in the order they ran.
+     */
+    public record Report(Duration duration, Map<String, PathReport> paths) {
+    }
+}
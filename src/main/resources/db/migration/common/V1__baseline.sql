@@ -0,0 +1,46 @@
+-- Baseline schema, matching the JPA mappings as of this migration.
+-- Kept to portable SQL so it runs on PostgreSQL and on H2 in PostgreSQL mode.
+
+CREATE TABLE customer (
+    id       VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_customer PRIMARY KEY (id)
+);
+
+CREATE TABLE account (
+    iban        VARCHAR(255) NOT NULL,
+    currency    VARCHAR(3)   NOT NULL,
+    customer_id VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_account PRIMARY KEY (iban),
+    CONSTRAINT fk_account_customer FOREIGN KEY (customer_id) REFERENCES customer (id)
+);
+
+CREATE INDEX idx_account_customer ON account (customer_id);
+CREATE INDEX idx_account_currency ON account (currency);
+
+CREATE TABLE transactions (
+    id           VARCHAR(255)   NOT NULL,
+    account_iban VARCHAR(255)   NOT NULL,
+    amount       NUMERIC(38, 2),
+    currency     VARCHAR(255),
+    value_date   DATE,
+    description  VARCHAR(255),
+    customer_id  VARCHAR(255),
+    CONSTRAINT pk_transactions PRIMARY KEY (id),
+    CONSTRAINT fk_transactions_account FOREIGN KEY (account_iban) REFERENCES account (iban)
+);
+
+CREATE INDEX idx_transactions_account_date ON transactions (account_iban, value_date, id);
+CREATE INDEX idx_transactions_customer_date ON transactions (customer_id, value_date);
+
+CREATE TABLE refresh_tokens (
+    token_hash  VARCHAR(64)              NOT NULL,
+    customer_id VARCHAR(255)             NOT NULL,
+    family_id   VARCHAR(36)              NOT NULL,
+    expires_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    used_at     TIMESTAMP WITH TIME ZONE,
+    revoked     BOOLEAN                  NOT NULL,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (token_hash)
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens (family_id);
@@ -0,0 +1,3 @@
+-- Transaction ids are 36-character UUID strings; size the key column to match
+-- so index entries stay compact.
+ALTER TABLE transactions ALTER COLUMN id SET DATA TYPE VARCHAR(36);
@@ -0,0 +1,5 @@
+-- H2 has no declarative partitioning; the PostgreSQL migration of the same version
+-- partitions transactions by value_date month. Keep the column constraint in step.
+
+UPDATE transactions SET value_date = CURRENT_DATE WHERE value_date IS NULL;
+ALTER TABLE transactions ALTER COLUMN value_date SET NOT NULL;
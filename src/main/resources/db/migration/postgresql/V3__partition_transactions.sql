@@ -0,0 +1,57 @@
+-- Range-partition transactions by value_date month so that date-bounded queries only
+-- touch the partitions they need and old months can be detached for archival.
+-- The primary key has to contain the partition key, so it becomes (id, value_date);
+-- a redelivered Kafka message carries the same id and value date and still hits it.
+-- PostgreSQL cannot enforce a unique index on id alone over a partitioned table, so id is
+-- no longer unique on its own: the same id is accepted again under another value date.
+-- Ids are UUIDv7 values generated by the service or the producer, and the JPA mapping still
+-- treats id as the identifier; a producer that reuses an id with a different value date
+-- creates a second row that lookups by id then find twice.
+
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT pk_transactions TO pk_transactions_unpartitioned;
+ALTER TABLE transactions_unpartitioned RENAME CONSTRAINT fk_transactions_account TO fk_transactions_unpartitioned_account;
+ALTER INDEX idx_transactions_account_date RENAME TO idx_transactions_unpartitioned_account_date;
+ALTER INDEX idx_transactions_customer_date RENAME TO idx_transactions_unpartitioned_customer_date;
+
+CREATE TABLE transactions (
+    id           VARCHAR(36)    NOT NULL,
+    account_iban VARCHAR(255)   NOT NULL,
+    amount       NUMERIC(38, 2),
+    currency     VARCHAR(255),
+    value_date   DATE           NOT NULL,
+    description  VARCHAR(255),
+    customer_id  VARCHAR(255),
+    CONSTRAINT pk_transactions PRIMARY KEY (id, value_date),
+    CONSTRAINT fk_transactions_account FOREIGN KEY (account_iban) REFERENCES account (iban)
+) PARTITION BY RANGE (value_date);
+
+CREATE INDEX idx_transactions_account_date ON transactions (account_iban, value_date, id);
+CREATE INDEX idx_transactions_customer_date ON transactions (customer_id, value_date);
+
+-- One partition per month from the oldest existing row to three months ahead.
+-- TransactionPartitionMaintenance keeps creating the months ahead from here on.
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(
+                       date_trunc('month', COALESCE((SELECT min(value_date) FROM transactions_unpartitioned), CURRENT_DATE)),
+                       date_trunc('month', GREATEST((SELECT max(value_date) FROM transactions_unpartitioned),
+                                                    CURRENT_DATE + INTERVAL '3 months')),
+                       INTERVAL '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                       'transactions_' || to_char(month_start, 'YYYY_MM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+-- Rows without a value date cannot be routed to a partition; book them on the migration date.
+INSERT INTO transactions (id, account_iban, amount, currency, value_date, description, customer_id)
+SELECT id, account_iban, amount, currency, COALESCE(value_date, CURRENT_DATE), description, customer_id
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
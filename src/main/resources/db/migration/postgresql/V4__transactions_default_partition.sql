@@ -0,0 +1,6 @@
+-- Rows whose value_date month has no partition (before the first month, past the months
+-- created ahead, or in a month already detached for archival) would otherwise fail the
+-- insert with a check violation. They land here instead; TransactionPartitionMaintenance
+-- moves them out when it creates their month's partition.
+
+CREATE TABLE transactions_default PARTITION OF transactions DEFAULT;
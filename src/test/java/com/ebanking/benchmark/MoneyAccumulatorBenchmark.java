@@ -0,0 +1,92 @@
+package com.ebanking.benchmark;
+
+import com.ebanking.domain.Money;
+import com.ebanking.domain.MoneyAccumulator;
+import com.ebanking.dto.AccountTransactionsSummaryDto;
+import com.ebanking.dto.TransactionResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debit/credit totals of one month of transactions: the BigDecimal stream reduction the
+ * summary endpoints used before, MoneyAccumulator fed the same BigDecimal amounts,
+ * MoneyAccumulator fed amounts already in minor units, and the summary built from projected
+ * DTOs that carry their minor units.
+ *
+ * Allocation per operation is reported by the GC profiler (gc.alloc.rate.norm).
+ *
+ * Run with: mvn -P benchmark -DskipTests verify -Djmh.includes=MoneyAccumulatorBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyAccumulatorBenchmark {
+
+    @Param({"100", "10000"})
+    private int transactions;
+
+    private List<BigDecimal> amounts;
+    private List<Money> money;
+    private List<TransactionResponseDto> projected;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        amounts = new ArrayList<>(transactions);
+        money = new ArrayList<>(transactions);
+        projected = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            // Stored amounts always have scale 2, like NUMERIC(38, 2) values read over JDBC
+            long minorUnits = random.nextLong(-500_000, 500_000);
+            amounts.add(BigDecimal.valueOf(minorUnits, Money.SCALE));
+            money.add(Money.ofMinor(minorUnits, "GBP"));
+            projected.add(new TransactionResponseDto("tx-" + i, "GB00", "GBP", BigDecimal.valueOf(minorUnits, Money.SCALE),
+                    "Card payment", null, minorUnits));
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalStreams(Blackhole blackhole) {
+        blackhole.consume(amounts.stream()
+                .filter(amount -> amount != null && amount.signum() < 0)
+                .map(BigDecimal::abs)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        blackhole.consume(amounts.stream()
+                .filter(amount -> amount != null && amount.signum() > 0)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    @Benchmark
+    public void accumulatorFromBigDecimal(Blackhole blackhole) {
+        MoneyAccumulator totals = new MoneyAccumulator();
+        for (BigDecimal amount : amounts) {
+            totals.add(amount);
+        }
+        blackhole.consume(totals.getTotalDebit());
+        blackhole.consume(totals.getTotalCredit());
+    }
+
+    @Benchmark
+    public void accumulatorFromMoney(Blackhole blackhole) {
+        MoneyAccumulator totals = new MoneyAccumulator();
+        for (Money amount : money) {
+            totals.add(amount);
+        }
+        blackhole.consume(totals.getTotalDebit());
+        blackhole.consume(totals.getTotalCredit());
+    }
+
+    @Benchmark
+    public AccountTransactionsSummaryDto summaryFromProjection() {
+        return AccountTransactionsSummaryDto.of(projected);
+    }
+}
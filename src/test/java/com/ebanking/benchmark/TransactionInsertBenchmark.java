@@ -0,0 +1,94 @@
+package com.ebanking.benchmark;
+
+import com.ebanking.service.TransactionIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput into the transactions table on H2, by key shape and JDBC batch size.
+ *
+ * Random UUID keys land all over the primary-key index, while time-ordered keys append
+ * to its right edge. The table keeps growing across iterations so the difference in
+ * index locality shows up as the index gets larger.
+ *
+ * Run with: mvn -P benchmark -DskipTests verify -Djmh.includes=TransactionInsertBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionInsertBenchmark {
+
+    private static final int ROWS_PER_INVOCATION = 1000;
+
+    @Param({"random", "timeOrdered"})
+    public String keyType;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private final TransactionIdGenerator idGenerator = new TransactionIdGenerator();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:bench-" + keyType + "-" + batchSize + ";MODE=PostgreSQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE transactions (id VARCHAR(36) PRIMARY KEY, account_iban VARCHAR(255) NOT NULL, "
+                    + "amount NUMERIC(38, 2), currency VARCHAR(3), value_date DATE, description VARCHAR(255), customer_id VARCHAR(255))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO transactions (id, account_iban, amount, currency, value_date, "
+                + "description, customer_id) VALUES (?, ?, ?, ?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_INVOCATION)
+    public void insertRows() throws SQLException {
+        Date valueDate = Date.valueOf(LocalDate.of(2024, 1, 1));
+        for (int i = 1; i <= ROWS_PER_INVOCATION; i++) {
+            insert.setString(1, nextId());
+            insert.setString(2, "GB00BENCH0001");
+            insert.setBigDecimal(3, BigDecimal.TEN);
+            insert.setString(4, "GBP");
+            insert.setDate(5, valueDate);
+            insert.setString(6, "benchmark");
+            insert.setString(7, "bench-customer");
+            if (batchSize == 1) {
+                insert.executeUpdate();
+            } else {
+                insert.addBatch();
+                if (i % batchSize == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    private String nextId() {
+        if ("random".equals(keyType)) {
+            return UUID.randomUUID().toString();
+        }
+        return idGenerator.nextId();
+    }
+}
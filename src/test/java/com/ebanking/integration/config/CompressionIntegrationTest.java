@@ -0,0 +1,181 @@
+package com.ebanking.integration.config;
+
+import com.ebanking.security.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the embedded server on a real port and checks that large JSON responses are
+ * gzip-compressed for clients that accept it, small ones are not, and plain HTTP connections
+ * can be upgraded to HTTP/2 (h2c).
+ *
+ * Small responses are covered both with a known length (the monthly responses, written as a
+ * byte array) and streamed by Jackson, where {@code CompressionThresholdFilter} supplies it.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Compression and HTTP/2 Integration Tests")
+class CompressionIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into customer (id, password) values ('cz-customer', 'x')");
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('CZ0001', 'EUR', 'cz-customer')");
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('CZ0002', 'EUR', 'cz-customer')");
+        List<Object[]> transactions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            transactions.add(new Object[]{"cz-" + i, BigDecimal.valueOf(i, 2),
+                    Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(i % 28))});
+        }
+        jdbcTemplate.batchUpdate("insert into transactions (id, account_iban, amount, currency, value_date, description, customer_id) "
+                + "values (?, 'CZ0001', ?, 'EUR', ?, 'Card payment', 'cz-customer')", transactions);
+        authToken = jwtService.generateToken("cz-customer");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from transactions where account_iban like 'CZ%'");
+        jdbcTemplate.update("delete from account where iban like 'CZ%'");
+        jdbcTemplate.update("delete from customer where id like 'cz-%'");
+    }
+
+    @Test
+    @DisplayName("Should gzip a large transaction list for a client that accepts gzip")
+    void shouldCompressLargeResponse() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get(HttpClient.Version.HTTP_1_1, "/api/v1/transactions/account/CZ0001", "gzip");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        String json = gunzip(response.body());
+        assertThat(json).startsWith("{\"transactions\":[").contains("\"id\":\"cz-199\"");
+        assertThat(response.body().length).isLessThan(json.length() / 3);
+    }
+
+    @Test
+    @DisplayName("Should not compress a response below the threshold, or without Accept-Encoding")
+    void shouldNotCompressSmallOrIdentityResponses() throws Exception {
+        // Given (the current month is never served from the response cache, which stores gzip)
+        YearMonth month = YearMonth.now();
+
+        // When
+        HttpResponse<byte[]> knownLength = get(HttpClient.Version.HTTP_1_1,
+                "/api/v1/transactions/account/CZ0002/" + month.getYear() + "/" + month.getMonthValue(), "gzip");
+        HttpResponse<byte[]> streamed = get(HttpClient.Version.HTTP_1_1, "/api/v1/transactions/account/CZ0002", "gzip");
+        HttpResponse<byte[]> identity = get(HttpClient.Version.HTTP_1_1, "/api/v1/transactions/account/CZ0001", "identity");
+
+        // Then
+        assertThat(knownLength.statusCode()).isEqualTo(200);
+        assertThat(knownLength.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(knownLength.headers().firstValue("Content-Length")).hasValue(String.valueOf(knownLength.body().length));
+        assertThat(new String(knownLength.body())).startsWith("{\"transactions\":[]");
+        assertThat(streamed.statusCode()).isEqualTo(200);
+        assertThat(streamed.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(streamed.headers().firstValue("Content-Length")).hasValue(String.valueOf(streamed.body().length));
+        assertThat(new String(streamed.body())).startsWith("{\"transactions\":[]");
+        assertThat(identity.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new String(identity.body())).contains("\"id\":\"cz-199\"");
+    }
+
+    @Test
+    @DisplayName("Should not compress a small error response")
+    void shouldNotCompressErrorResponse() throws Exception {
+        // Given
+        authToken = "invalid";
+
+        // When
+        HttpResponse<byte[]> unauthorized = get(HttpClient.Version.HTTP_1_1, "/api/v1/transactions/account/CZ0001", "gzip");
+        authToken = jwtService.generateToken("cz-customer");
+        HttpResponse<byte[]> badRequest = get(HttpClient.Version.HTTP_1_1, "/api/v1/transactions/account/CZ0001/2024/13", "gzip");
+
+        // Then
+        assertThat(unauthorized.statusCode()).isEqualTo(401);
+        assertThat(unauthorized.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new String(unauthorized.body())).contains("Unauthorized");
+        assertThat(badRequest.statusCode()).isEqualTo(400);
+        assertThat(badRequest.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stream every line of an NDJSON response through the threshold buffer")
+    void shouldStreamNdjson() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get(HttpClient.Version.HTTP_1_1, "/api/v1/transactions/me/account/CZ0001/stream",
+                "gzip", "application/x-ndjson");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gunzip(response.body()).lines()).hasSize(200);
+    }
+
+    @Test
+    @DisplayName("Should upgrade a plain HTTP connection to HTTP/2")
+    void shouldServeH2c() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get(HttpClient.Version.HTTP_2, "/api/v1/transactions/account/CZ0001", "gzip");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+        assertThat(gunzip(response.body())).contains("\"id\":\"cz-0\"");
+    }
+
+    private HttpResponse<byte[]> get(HttpClient.Version version, String path, String acceptEncoding)
+            throws IOException, InterruptedException {
+        return get(version, path, acceptEncoding, "application/json");
+    }
+
+    private HttpResponse<byte[]> get(HttpClient.Version version, String path, String acceptEncoding, String accept)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().version(version).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + authToken)
+                .header("Accept-Encoding", acceptEncoding)
+                .header("Accept", accept)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.ebanking.integration.config;
+
+import com.ebanking.dto.AccountTransactionsSummaryDto;
+import com.ebanking.dto.TransactionKafkaDto;
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.repository.AccountRepository;
+import com.ebanking.repository.CustomerRepository;
+import com.ebanking.service.KafkaTransactionConsumer;
+import com.ebanking.service.StatementResponseCache;
+import com.ebanking.service.TransactionService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against two separate in-memory databases standing in for the primary and the replica.
+ * The replica is never written by the application, so rows seeded differently in each database
+ * show which one served a given call.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.flyway.enabled=true",
+        "app.datasource.replica.enabled=true",
+        // Reads served from the second-level cache would hide which database was queried
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@ActiveProfiles("test")
+@DisplayName("Read Replica Routing Integration Tests")
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String REPLICA_URL =
+            "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private KafkaTransactionConsumer kafkaTransactionConsumer;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private StatementResponseCache statementResponseCache;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        // The replica has to have the schema before the context starts reading from it
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        registry.add("app.datasource.replica.url", () -> REPLICA_URL);
+    }
+
+    @BeforeEach
+    void seed() {
+        for (JdbcTemplate template : List.of(jdbcTemplate, replicaJdbcTemplate)) {
+            template.update("insert into customer (id, password) values ('routing', 'x')");
+            template.update("insert into account (iban, currency, customer_id) values ('ROUTE1', 'EUR', 'routing')");
+        }
+        jdbcTemplate.update("insert into transactions (id, account_iban, amount, currency, value_date, description) "
+                + "values ('routing-1', 'ROUTE1', 10.00, 'EUR', DATE '2024-01-01', 'primary')");
+        replicaJdbcTemplate.update("insert into transactions (id, account_iban, amount, currency, value_date, description) "
+                + "values ('routing-1', 'ROUTE1', 10.00, 'EUR', DATE '2024-01-01', 'replica')");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        statementResponseCache.clear();
+        for (JdbcTemplate template : List.of(jdbcTemplate, replicaJdbcTemplate)) {
+            template.update("delete from transactions where account_iban like 'ROUTE%'");
+            template.update("delete from account where iban like 'ROUTE%'");
+            template.update("delete from customer where id like 'routing%'");
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve read-only service calls from the replica")
+    void shouldServeReadOnlyCallsFromReplica() {
+        // When
+        List<TransactionResponseDto> transactions = transactionService.getTransactionsByAccount("ROUTE1");
+
+        // Then
+        assertThat(transactions).extracting(TransactionResponseDto::getDescription).containsExactly("replica");
+    }
+
+    @Test
+    @DisplayName("Should write created transactions to the primary only")
+    void shouldWriteCreatedTransactionsToPrimary() {
+        // When
+        transactionService.createTransaction("ROUTE1", BigDecimal.ONE, "created", LocalDate.of(2024, 1, 2));
+
+        // Then
+        assertThat(countByDescription(jdbcTemplate, "created")).isEqualTo(1);
+        assertThat(countByDescription(replicaJdbcTemplate, "created")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should look up the account and save consumed transactions on the primary")
+    void shouldConsumeAgainstPrimary() {
+        // Given
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('ROUTE2', 'EUR', 'routing')");
+        TransactionKafkaDto dto = new TransactionKafkaDto();
+        dto.setAccountIban("ROUTE2");
+        dto.setAmount(BigDecimal.TEN);
+        dto.setValueDate(LocalDate.of(2024, 1, 3));
+        dto.setDescription("consumed");
+
+        // When
+        kafkaTransactionConsumer.consume(dto);
+
+        // Then
+        assertThat(accountRepository.findById("ROUTE2")).isEmpty();
+        assertThat(countByDescription(jdbcTemplate, "consumed")).isEqualTo(1);
+        assertThat(countByDescription(replicaJdbcTemplate, "consumed")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should find a customer registered on the primary for login before the replica has it")
+    void shouldLoadNewCustomerFromPrimary() {
+        // Given
+        jdbcTemplate.update("insert into customer (id, password) values ('routing-new', 'x')");
+
+        // When & Then
+        assertThat(customerRepository.existsById("routing-new")).isFalse();
+        assertThat(customerRepository.existsByIdForWrite("routing-new")).isTrue();
+        assertThat(userDetailsService.loadUserByUsername("routing-new").getUsername()).isEqualTo("routing-new");
+    }
+
+    @Test
+    @DisplayName("Should build a closed month that is going to be cached from the primary")
+    void shouldCacheClosedMonthFromPrimary() {
+        // Given
+        YearMonth month = YearMonth.of(2024, 1);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+        // When
+        byte[] body = statementResponseCache.respond(StatementResponseCache.Key.account("ROUTE1", month), request,
+                () -> AccountTransactionsSummaryDto.of(transactionService.getTransactionsByAccountForMonth("ROUTE1", month)))
+                .getBody();
+
+        // Then
+        assertThat(new String(body, StandardCharsets.UTF_8)).contains("primary").doesNotContain("replica");
+    }
+
+    private static int countByDescription(JdbcTemplate template, String description) {
+        Integer count = template.queryForObject(
+                "select count(*) from transactions where description = ?", Integer.class, description);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,142 @@
+package com.ebanking.integration.config;
+
+import com.ebanking.dto.TransactionKafkaDto;
+import com.ebanking.security.JwtService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the application with {@code spring.threads.virtual.enabled} and checks that the
+ * Kafka listeners and the outbound client use virtual threads, and that concurrent requests
+ * on virtual threads are not pinned to their carrier while they wait.
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("Virtual Threads Integration Tests")
+class VirtualThreadsIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 200;
+    private static final String REQUEST_THREAD_PREFIX = "vt-request-";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ConcurrentKafkaListenerContainerFactory<String, TransactionKafkaDto> transactionKafkaListenerContainerFactory;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        jdbcTemplate.update("insert into customer (id, password) values ('vt-customer', 'x')");
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('VT0001', 'EUR', 'vt-customer')");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from account where iban = 'VT0001'");
+        jdbcTemplate.update("delete from customer where id = 'vt-customer'");
+    }
+
+    @Test
+    @DisplayName("Should run Kafka listener containers on virtual threads")
+    void shouldRunKafkaListenersOnVirtualThreads() throws Exception {
+        // When
+        Boolean virtual = transactionKafkaListenerContainerFactory.getContainerProperties()
+                .getListenerTaskExecutor()
+                .submit(() -> Thread.currentThread().isVirtual())
+                .get();
+
+        // Then
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fetch exchange rates through the JDK HttpClient")
+    void shouldUseJdkHttpClient() {
+        assertThat(restTemplate.getRequestFactory()).isInstanceOf(JdkClientHttpRequestFactory.class);
+    }
+
+    @Test
+    @DisplayName("Should serve concurrent requests on virtual threads without pinning")
+    void shouldServeConcurrentRequestsWithoutPinning() throws Exception {
+        // Given
+        String token = jwtService.generateToken("vt-customer");
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+        // When
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withoutThreshold().withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+
+            List<Future<?>> requests = new ArrayList<>();
+            try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(REQUEST_THREAD_PREFIX, 0).factory())) {
+                for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                    requests.add(executor.submit(() -> mockMvc.perform(get("/api/v1/accounts/me")
+                                    .header("Authorization", "Bearer " + token))
+                            .andExpect(status().isOk())));
+                }
+            }
+            for (Future<?> request : requests) {
+                request.get();
+            }
+            recording.stop();
+        }
+
+        // Then (the Kafka listeners retrying an absent broker are not part of the requests)
+        assertThat(pinned)
+                .as("request threads pinned outside the embedded test database")
+                .filteredOn(event -> isRequestThread(event) && !isInEmbeddedDatabase(event))
+                .isEmpty();
+    }
+
+    private static boolean isRequestThread(RecordedEvent event) {
+        return event.getThread() != null && event.getThread().getJavaName() != null
+                && event.getThread().getJavaName().startsWith(REQUEST_THREAD_PREFIX);
+    }
+
+    private static boolean isInEmbeddedDatabase(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .anyMatch(method -> method.getType().getName().startsWith("org.h2."));
+    }
+}
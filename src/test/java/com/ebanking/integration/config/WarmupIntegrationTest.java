@@ -0,0 +1,69 @@
+package com.ebanking.integration.config;
+
+import com.ebanking.service.WarmupRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.warmup.enabled=true",
+        "app.warmup.iterations=20",
+        "app.warmup.budget=20s",
+        "app.warmup.currencies=GBP" // same as the base currency, so no exchange-rate API call
+})
+@ActiveProfiles("test")
+@DisplayName("Warm-up Integration Tests")
+class WarmupIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    @DisplayName("Should warm up every path through the real beans before the context is ready")
+    void shouldWarmUpAtStartup() {
+        // When
+        WarmupRunner.Report report = warmupRunner.getReport();
+
+        // Then
+        assertThat(report).isNotNull();
+        assertThat(report.paths()).containsOnlyKeys("accounts", "token", "transactions", "summary", "conversion", "kafka");
+        assertThat(report.paths().values()).allSatisfy(path -> {
+            assertThat(path.error()).isNull();
+            assertThat(path.calls()).isPositive();
+        });
+    }
+
+    @Test
+    @DisplayName("Should serve the readiness and liveness probes without authentication")
+    void shouldServeProbes() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+}
@@ -0,0 +1,170 @@
+package com.ebanking.integration.controller;
+
+import com.ebanking.integration.support.SqlStatementRecorder;
+import com.ebanking.security.JwtService;
+import com.ebanking.service.StatementResponseCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts the SQL statements each endpoint executes, through the full security filter chain.
+ *
+ * Every endpoint is called for a small customer and for a customer with several times as
+ * many accounts and transactions. The counts have to be equal, so a lazy association walked
+ * per row (N+1) fails the test, and each count has to stay within the endpoint's budget.
+ * The second-level and response caches are cleared before each call so cache hits do not
+ * hide a regression.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.ebanking.integration.support.SqlStatementRecorder")
+@ActiveProfiles("test")
+@DisplayName("Endpoint Query Count Integration Tests")
+class EndpointQueryCountIntegrationTest {
+
+    private static final String SMALL = "qc-small";
+    private static final String LARGE = "qc-large";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StatementResponseCache statementResponseCache;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        seedCustomer(SMALL, 1, 1);
+        seedCustomer(LARGE, 4, 5);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from transactions where account_iban like 'QC%'");
+        jdbcTemplate.update("delete from account where iban like 'QC%'");
+        jdbcTemplate.update("delete from customer where id like 'qc-%'");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("GET /accounts/me should not grow with the number of accounts")
+    void myAccountsShouldNotGrowWithAccounts() throws Exception {
+        assertConstantStatementCount(customer -> get("/api/v1/accounts/me"), 2);
+    }
+
+    @Test
+    @DisplayName("GET /transactions/me should not grow with the number of transactions")
+    void myTransactionsShouldNotGrowWithTransactions() throws Exception {
+        assertConstantStatementCount(customer -> get("/api/v1/transactions/me"), 2);
+    }
+
+    @Test
+    @DisplayName("GET /transactions/me/account/{iban} should not grow with the number of transactions")
+    void myAccountTransactionsShouldNotGrowWithTransactions() throws Exception {
+        assertConstantStatementCount(customer -> get("/api/v1/transactions/me/account/" + iban(customer, 0)), 2);
+    }
+
+    @Test
+    @DisplayName("GET /transactions/me/account/{iban}/{year}/{month} should not grow with the number of transactions")
+    void myMonthlyTransactionsShouldNotGrowWithTransactions() throws Exception {
+        assertConstantStatementCount(
+                customer -> get("/api/v1/transactions/me/account/" + iban(customer, 0) + "/2024/1"), 2);
+    }
+
+    @Test
+    @DisplayName("POST /auth/register should insert without selecting")
+    void registerShouldInsertWithoutSelecting() throws Exception {
+        // Given
+        SqlStatementRecorder.clear();
+
+        // When
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"customerId\":\"qc-new\",\"password\":\"password123\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts").doesNotExist());
+
+        // Then
+        assertThat(SqlStatementRecorder.selects()).isEmpty();
+    }
+
+    private void assertConstantStatementCount(Function<String, MockHttpServletRequestBuilder> request,
+                                              int budget) throws Exception {
+        // When
+        int small = statementsFor(SMALL, request);
+        int large = statementsFor(LARGE, request);
+
+        // Then
+        assertThat(large).as("statements for %s vs %s", LARGE, SMALL).isEqualTo(small);
+        assertThat(small).as("statement budget").isLessThanOrEqualTo(budget);
+    }
+
+    private int statementsFor(String customerId, Function<String, MockHttpServletRequestBuilder> request)
+            throws Exception {
+        String token = jwtService.generateToken(customerId);
+        entityManagerFactory.getCache().evictAll();
+        statementResponseCache.clear();
+        SqlStatementRecorder.clear();
+
+        mockMvc.perform(request.apply(customerId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        return SqlStatementRecorder.statements().size();
+    }
+
+    private void seedCustomer(String customerId, int accounts, int transactionsPerAccount) {
+        jdbcTemplate.update("insert into customer (id, password) values (?, 'x')", customerId);
+        List<Object[]> transactions = new ArrayList<>();
+        for (int a = 0; a < accounts; a++) {
+            String iban = iban(customerId, a);
+            jdbcTemplate.update("insert into account (iban, currency, customer_id) values (?, 'EUR', ?)", iban, customerId);
+            for (int t = 0; t < transactionsPerAccount; t++) {
+                transactions.add(new Object[]{UUID.randomUUID().toString(), iban, BigDecimal.valueOf(t + 1),
+                        "EUR", Date.valueOf(LocalDate.of(2024, 1, 1).plusDays(t)), "seed", customerId});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into transactions (id, account_iban, amount, currency, value_date, description, customer_id) "
+                + "values (?, ?, ?, ?, ?, ?, ?)", transactions);
+    }
+
+    private static String iban(String customerId, int index) {
+        return "QC" + customerId.substring(3).toUpperCase() + index;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ebanking.integration.controller;
+
+import com.ebanking.security.JwtService;
+import com.ebanking.service.StatementResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Statement Response Cache Integration Tests")
+class StatementResponseCacheIntegrationTest {
+
+    private static final String MONTH_PATH = "/api/v1/transactions/me/account/RC0001/2024/1";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private StatementResponseCache statementResponseCache;
+
+    private MockMvc mockMvc;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        jdbcTemplate.update("insert into customer (id, password) values ('rc-customer', 'x')");
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('RC0001', 'EUR', 'rc-customer')");
+        jdbcTemplate.update("insert into transactions (id, account_iban, amount, currency, value_date, description, customer_id) "
+                + "values ('rc-1', 'RC0001', 10.00, 'EUR', DATE '2024-01-10', 'cached', 'rc-customer')");
+        authToken = jwtService.generateToken("rc-customer");
+        statementResponseCache.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from transactions where account_iban like 'RC%'");
+        jdbcTemplate.update("delete from account where iban like 'RC%'");
+        jdbcTemplate.update("delete from customer where id like 'rc-%'");
+        statementResponseCache.clear();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for a closed month until a back-dated transaction is posted")
+    void shouldInvalidateOnBackDatedTransaction() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get(MONTH_PATH).header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions.length()").value(1))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get(MONTH_PATH)
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // When
+        mockMvc.perform(post("/api/v1/transactions")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"accountIban\":\"RC0001\",\"amount\":-5.00,\"description\":\"late\",\"valueDate\":\"2024-01-20\"}"))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get(MONTH_PATH)
+                        .header("Authorization", "Bearer " + authToken)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.transactions.length()").value(2))
+                .andExpect(jsonPath("$.totalDebit").value(5.00));
+    }
+}
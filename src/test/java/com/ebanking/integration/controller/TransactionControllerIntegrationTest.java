@@ -335,4 +335,57 @@ class TransactionControllerIntegrationTest {
         Transaction savedTransaction = transactionRepository.findAll().get(0);
         assertThat(savedTransaction.getCurrency()).isEqualTo("MYR");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should get transactions of the authenticated customer")
+    void shouldGetTransactionsOfAuthenticatedCustomer() throws Exception {
+        // Given
+        Transaction transaction = Transaction.builder()
+                .id(UUID.randomUUID().toString())
+                .account(testAccount)
+                .amount(BigDecimal.valueOf(100.00))
+                .currency("MYR")
+                .valueDate(LocalDate.now())
+                .description("Test transaction")
+                .build();
+        transactionRepository.save(transaction);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0].id").value(transaction.getId()))
+                .andExpect(jsonPath("$[0].accountIban").value("TEST123456"));
+    }
+
+    @Test
+    @DisplayName("Should not return transactions of an account owned by another customer")
+    void shouldNotReturnTransactionsOfAccountOwnedByAnotherCustomer() throws Exception {
+        // Given
+        Customer otherCustomer = customerRepository.save(Customer.builder()
+                .id("other-customer")
+                .password(passwordEncoder.encode("password123"))
+                .build());
+        Account otherAccount = accountRepository.save(Account.builder()
+                .iban("OTHER123456")
+                .currency("MYR")
+                .customer(otherCustomer)
+                .build());
+        transactionRepository.save(Transaction.builder()
+                .id(UUID.randomUUID().toString())
+                .account(otherAccount)
+                .amount(BigDecimal.valueOf(100.00))
+                .currency("MYR")
+                .valueDate(LocalDate.now())
+                .description("Other transaction")
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/account/OTHER123456")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions").isEmpty())
+                .andExpect(jsonPath("$.totalCredit").value(0));
+    }
+}
@@ -0,0 +1,140 @@
+package com.ebanking.integration.controller;
+
+import com.ebanking.security.JwtService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.sql.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.reactive.page-size=2")
+@ActiveProfiles("test")
+@DisplayName("Transaction Stream Integration Tests")
+class TransactionStreamIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        jdbcTemplate.update("insert into customer (id, password) values ('st-customer', 'x')");
+        jdbcTemplate.update("insert into customer (id, password) values ('st-other', 'x')");
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('ST0001', 'EUR', 'st-customer')");
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('ST0002', 'EUR', 'st-other')");
+        insertTransaction("st-c", "ST0001", "2024-01-02", "st-customer");
+        insertTransaction("st-a", "ST0001", "2024-01-01", "st-customer");
+        insertTransaction("st-b", "ST0001", "2024-01-02", "st-customer");
+        insertTransaction("st-d", "ST0001", "2024-01-03", "st-customer");
+        insertTransaction("st-e", "ST0001", "2024-01-04", "st-customer");
+        insertTransaction("st-x", "ST0002", "2024-01-01", "st-other");
+        authToken = jwtService.generateToken("st-customer");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from transactions where account_iban like 'ST%'");
+        jdbcTemplate.update("delete from account where iban like 'ST%'");
+        jdbcTemplate.update("delete from customer where id like 'st-%'");
+    }
+
+    @Test
+    @DisplayName("Should stream the customer's transactions as NDJSON across keyset pages")
+    void shouldStreamMyTransactions() throws Exception {
+        // When
+        String body = stream("/api/v1/transactions/me/stream");
+
+        // Then
+        assertThat(body.lines().map(this::idOf))
+                .containsExactly("st-a", "st-b", "st-c", "st-d", "st-e");
+    }
+
+    @Test
+    @DisplayName("Should stream nothing for an account of another customer")
+    void shouldStreamNothingForForeignAccount() throws Exception {
+        // When
+        String body = stream("/api/v1/transactions/me/account/ST0002/stream");
+
+        // Then
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject an unsupported target currency")
+    void shouldRejectUnsupportedCurrency() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/stream")
+                        .param("currency", "XXX")
+                        .header("Authorization", "Bearer " + authToken)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should require authentication")
+    void shouldRequireAuthentication() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/stream").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String stream(String path) throws Exception {
+        MvcResult result = mockMvc.perform(get(path)
+                        .header("Authorization", "Bearer " + authToken)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private String idOf(String line) {
+        try {
+            return objectMapper.readTree(line).get("id").asText();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Not a JSON line: " + line, e);
+        }
+    }
+
+    private void insertTransaction(String id, String iban, String valueDate, String customerId) {
+        jdbcTemplate.update("insert into transactions (id, account_iban, amount, currency, value_date, description, customer_id) "
+                + "values (?, ?, 10.00, 'EUR', ?, 'stream', ?)", id, iban, Date.valueOf(valueDate), customerId);
+    }
+}
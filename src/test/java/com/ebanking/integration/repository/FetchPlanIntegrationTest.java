@@ -0,0 +1,104 @@
+package com.ebanking.integration.repository;
+
+import com.ebanking.domain.Account;
+import com.ebanking.domain.Customer;
+import com.ebanking.domain.Transaction;
+import com.ebanking.integration.support.SqlStatementRecorder;
+import com.ebanking.repository.CustomerRepository;
+import com.ebanking.repository.TransactionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the fetch plans hold: associations read off the results of a finder must
+ * not cost one select per row.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.ebanking.integration.support.SqlStatementRecorder")
+@ActiveProfiles("test")
+@DisplayName("Fetch Plan Integration Tests")
+class FetchPlanIntegrationTest {
+
+    private static final int CUSTOMERS = 3;
+    private static final int ACCOUNTS_PER_CUSTOMER = 4;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seed() {
+        for (int c = 0; c < CUSTOMERS; c++) {
+            jdbcTemplate.update("insert into customer (id, password) values (?, 'x')", "fp-" + c);
+            for (int a = 0; a < ACCOUNTS_PER_CUSTOMER; a++) {
+                String iban = "FP" + c + "X" + a;
+                jdbcTemplate.update("insert into account (iban, currency, customer_id) values (?, 'EUR', ?)", iban, "fp-" + c);
+                jdbcTemplate.update("insert into transactions (id, account_iban, amount, currency, value_date, customer_id) "
+                        + "values (?, ?, 1.00, 'EUR', DATE '2024-01-01', ?)", iban + "-t", iban, "fp-" + c);
+            }
+        }
+        entityManagerFactory.getCache().evictAll();
+        SqlStatementRecorder.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from transactions where account_iban like 'FP%'");
+        jdbcTemplate.update("delete from account where iban like 'FP%'");
+        jdbcTemplate.update("delete from customer where id like 'fp-%'");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should fetch transactions with their accounts in one select")
+    void shouldFetchTransactionsWithAccounts() {
+        // When
+        List<String> currencies = transactionTemplate.execute(status ->
+                transactionRepository.findByAccount_Customer_Id("fp-0").stream()
+                        .map(Transaction::getAccount)
+                        .map(Account::getCurrency)
+                        .toList());
+
+        // Then
+        assertThat(currencies).hasSize(ACCOUNTS_PER_CUSTOMER);
+        assertThat(SqlStatementRecorder.selects()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should batch account collections across customers")
+    void shouldBatchAccountCollections() {
+        // When
+        Integer accounts = transactionTemplate.execute(status -> customerRepository.findAll().stream()
+                .filter(customer -> customer.getId().startsWith("fp-"))
+                .map(Customer::getAccounts)
+                .mapToInt(List::size)
+                .sum());
+
+        // Then
+        assertThat(accounts).isEqualTo(CUSTOMERS * ACCOUNTS_PER_CUSTOMER);
+        assertThat(SqlStatementRecorder.selects()).hasSize(2);
+    }
+}
@@ -0,0 +1,235 @@
+package com.ebanking.integration.repository;
+
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.integration.support.SqlStatementRecorder;
+import com.ebanking.repository.AccountRepository;
+import com.ebanking.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each repository query, captures the SQL Hibernate generated for it and checks
+ * the H2 {@code EXPLAIN} plan, so that a dropped index or a changed query shape that
+ * falls back to a full table scan fails the build.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.ebanking.integration.support.SqlStatementRecorder")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Repository Query Plan Integration Tests")
+class RepositoryQueryPlanIntegrationTest {
+
+    private static final int CUSTOMERS = 20;
+    private static final int ACCOUNTS_PER_CUSTOMER = 3;
+    private static final int TRANSACTIONS_PER_ACCOUNT = 50;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        List<Object[]> customers = new ArrayList<>();
+        List<Object[]> accounts = new ArrayList<>();
+        List<Object[]> transactions = new ArrayList<>();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        for (int c = 0; c < CUSTOMERS; c++) {
+            String customerId = "plan-" + c;
+            customers.add(new Object[]{customerId, "x"});
+            for (int a = 0; a < ACCOUNTS_PER_CUSTOMER; a++) {
+                String iban = "PLAN" + c + "X" + a;
+                String currency = a == 0 ? "GBP" : a == 1 ? "EUR" : "CHF";
+                accounts.add(new Object[]{iban, currency, customerId});
+                for (int t = 0; t < TRANSACTIONS_PER_ACCOUNT; t++) {
+                    transactions.add(new Object[]{UUID.randomUUID().toString(), iban, BigDecimal.valueOf(t - 25),
+                            currency, Date.valueOf(start.plusDays(t)), "seed", customerId});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate("insert into customer (id, password) values (?, ?)", customers);
+        jdbcTemplate.batchUpdate("insert into account (iban, currency, customer_id) values (?, ?, ?)", accounts);
+        jdbcTemplate.batchUpdate("insert into transactions (id, account_iban, amount, currency, value_date, description, customer_id) "
+                + "values (?, ?, ?, ?, ?, ?, ?)", transactions);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("delete from transactions where account_iban like 'PLAN%'");
+        jdbcTemplate.update("delete from account where iban like 'PLAN%'");
+        jdbcTemplate.update("delete from customer where id like 'plan-%'");
+    }
+
+    @BeforeEach
+    void resetRecorder() {
+        SqlStatementRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("findByAccount_Iban should use the account/date index")
+    void findByAccountIbanShouldUseIndex() {
+        // When
+        assertThat(transactionRepository.findByAccount_Iban("PLAN1X0")).hasSize(TRANSACTIONS_PER_ACCOUNT);
+
+        // Then
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findByAccount_Customer_Id should use indexes on both sides of the join")
+    void findByAccountCustomerIdShouldUseIndexes() {
+        // When
+        assertThat(transactionRepository.findByAccount_Customer_Id("plan-1"))
+                .hasSize(ACCOUNTS_PER_CUSTOMER * TRANSACTIONS_PER_ACCOUNT);
+
+        // Then
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findByAccount_IbanAndAccount_Customer_Id should use indexes")
+    void findByAccountIbanAndCustomerIdShouldUseIndexes() {
+        // When
+        assertThat(transactionRepository.findByAccount_IbanAndAccount_Customer_Id("PLAN1X0", "plan-1"))
+                .hasSize(TRANSACTIONS_PER_ACCOUNT);
+
+        // Then
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findResponseDtosByAccountIban should read only the transactions table")
+    void findResponseDtosByAccountIbanShouldNotJoinAccount() {
+        // When
+        assertThat(transactionRepository.findResponseDtosByAccountIban("PLAN1X0"))
+                .hasSize(TRANSACTIONS_PER_ACCOUNT)
+                .allSatisfy(dto -> {
+                    assertThat(dto.getAccountIban()).isEqualTo("PLAN1X0");
+                    assertThat(dto.getAmountMinorUnits()).isEqualTo(dto.getAmount().movePointRight(2).longValueExact());
+                });
+
+        // Then
+        assertThat(SqlStatementRecorder.selects()).hasSize(1);
+        assertThat(SqlStatementRecorder.selects().get(0)).doesNotContainIgnoringCase("join");
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findResponseDtosByAccountIbanAndCustomerId should use indexes in a single select")
+    void findResponseDtosByAccountIbanAndCustomerIdShouldUseIndexes() {
+        // When
+        assertThat(transactionRepository.findResponseDtosByAccountIbanAndCustomerId("PLAN1X0", "plan-1"))
+                .hasSize(TRANSACTIONS_PER_ACCOUNT);
+        assertThat(transactionRepository.findResponseDtosByAccountIbanAndCustomerId("PLAN1X0", "plan-2"))
+                .isEmpty();
+
+        // Then
+        assertThat(SqlStatementRecorder.selects()).hasSize(2);
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findResponseDtosByAccountIbanAndValueDateRange should range-scan the account/date index")
+    void findResponseDtosByAccountIbanAndValueDateRangeShouldUseIndex() {
+        // When
+        assertThat(transactionRepository.findResponseDtosByAccountIbanAndValueDateRange(
+                "PLAN1X0", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)))
+                .hasSize(31)
+                .isSortedAccordingTo(Comparator.comparing(TransactionResponseDto::getValueDate));
+
+        // Then
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findByAccount_Currency should use the account currency index")
+    void findByAccountCurrencyShouldUseIndexes() {
+        // When
+        assertThat(transactionRepository.findByAccount_Currency("CHF"))
+                .hasSize(CUSTOMERS * TRANSACTIONS_PER_ACCOUNT);
+
+        // Then
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findByCustomerIdAndValueDateBetween should use the customer/date index")
+    void findByCustomerIdAndValueDateBetweenShouldUseIndex() {
+        // When
+        assertThat(transactionRepository.findByCustomerIdAndValueDateBetween("plan-1",
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10), PageRequest.of(0, 5)).getContent())
+                .hasSize(5);
+
+        // Then
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findByCustomer_Id should use the account customer index")
+    void findAccountsByCustomerIdShouldUseIndex() {
+        // When
+        assertThat(accountRepository.findByCustomer_Id("plan-1")).hasSize(ACCOUNTS_PER_CUSTOMER);
+
+        // Then
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("findByCurrency should use the account currency index")
+    void findAccountsByCurrencyShouldUseIndex() {
+        // When
+        assertThat(accountRepository.findByCurrency("EUR")).hasSize(CUSTOMERS);
+
+        // Then
+        assertNoTableScans();
+    }
+
+    private void assertNoTableScans() {
+        List<String> selects = SqlStatementRecorder.selects();
+        assertThat(selects).as("captured SELECT statements").isNotEmpty();
+
+        for (String sql : selects) {
+            String plan = explain(sql);
+            assertThat(plan)
+                    .as("query plan for: %s", sql)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        // Parameters are left unbound; H2 only checks them for EXPLAIN ANALYZE
+        return jdbcTemplate.query(con -> con.prepareStatement("EXPLAIN " + sql), rs -> {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        });
+    }
+}
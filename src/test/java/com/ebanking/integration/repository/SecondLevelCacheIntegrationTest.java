@@ -0,0 +1,137 @@
+package com.ebanking.integration.repository;
+
+import com.ebanking.domain.Account;
+import com.ebanking.domain.Customer;
+import com.ebanking.repository.AccountRepository;
+import com.ebanking.repository.CustomerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each repository call below runs in its own transaction and persistence context, so a
+ * repeated lookup can only avoid the database through the second-level cache.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Second-Level Cache Integration Tests")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = customerRepository.save(Customer.builder().id("l2c-customer").password("x").build());
+        accountRepository.save(Account.builder().iban("L2C0001").currency("EUR").customer(customer).build());
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        accountRepository.deleteById("L2C0001");
+        accountRepository.deleteById("L2C0002");
+        customerRepository.deleteById("l2c-customer");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated account lookups from the cache")
+    void shouldServeRepeatedAccountLookupsFromCache() {
+        // When
+        accountRepository.findById("L2C0001");
+        accountRepository.findById("L2C0001");
+
+        // Then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Account.class.getName());
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated customer lookups from the cache")
+    void shouldServeRepeatedCustomerLookupsFromCache() {
+        // When
+        customerRepository.findById("l2c-customer");
+        customerRepository.findById("l2c-customer");
+
+        // Then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Customer.class.getName());
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cache a customer's account collection")
+    void shouldCacheCustomerAccounts() {
+        // When
+        for (int i = 0; i < 2; i++) {
+            transactionTemplate.executeWithoutResult(status -> assertThat(
+                    customerRepository.findById("l2c-customer").orElseThrow().getAccounts()).hasSize(1));
+        }
+
+        // Then
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Customer.class.getName() + ".accounts");
+        assertThat(region.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict a cached account collection when an account is added")
+    void shouldEvictCustomerAccountsOnNewAccount() {
+        // Given
+        transactionTemplate.executeWithoutResult(status ->
+                customerRepository.findById("l2c-customer").orElseThrow().getAccounts().size());
+        Customer customer = customerRepository.findById("l2c-customer").orElseThrow();
+
+        // When
+        accountRepository.save(Account.builder().iban("L2C0002").currency("GBP").customer(customer).build());
+
+        // Then
+        transactionTemplate.executeWithoutResult(status -> assertThat(
+                customerRepository.findById("l2c-customer").orElseThrow().getAccounts())
+                .extracting(Account::getIban)
+                .containsExactlyInAnyOrder("L2C0001", "L2C0002"));
+    }
+
+    @Test
+    @DisplayName("Should publish region statistics to Micrometer")
+    void shouldPublishRegionStatistics() {
+        // When
+        accountRepository.findById("L2C0001");
+
+        // Then
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", Account.class.getName())
+                .meters()).isNotEmpty();
+    }
+}
@@ -0,0 +1,160 @@
+package com.ebanking.integration.service;
+
+import com.ebanking.domain.Account;
+import com.ebanking.repository.CustomerRepository;
+import com.ebanking.security.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.bulk-import.chunk-size=2")
+@ActiveProfiles("test")
+@DisplayName("Bulk Import Integration Tests")
+class BulkImportIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+        jdbcTemplate.update("insert into customer (id, password) values ('bulk-customer', 'x')");
+        authToken = jwtService.generateToken("bulk-customer");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from transactions where account_iban like 'BULK%'");
+        jdbcTemplate.update("delete from account where iban like 'BULK%'");
+        jdbcTemplate.update("delete from customer where id = 'bulk-customer'");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should import accounts across chunks and report each rejected line")
+    void shouldImportAccounts() throws Exception {
+        // Given
+        String body = """
+                {"iban":"BULK001","currency":"EUR","customerId":"bulk-customer"}
+                {"iban":"BULK002","currency":"GBP","customerId":"bulk-customer"}
+                {"iban":"BULK003","currency":"XXX","customerId":"bulk-customer"}
+                {"iban":"BULK004","currency":"EUR","customerId":"nobody"}
+                not json
+
+                {"iban":"BULK001","currency":"EUR","customerId":"bulk-customer"}
+                {"iban":"BULK005","currency":"CHF","customerId":"bulk-customer"}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/accounts/bulk")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(7))
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.errors[?(@.line == 3)].message").value(hasItem(startsWith("currency:"))))
+                .andExpect(jsonPath("$.errors[?(@.line == 4)].message").value("Customer not found: nobody"))
+                .andExpect(jsonPath("$.errors[?(@.line == 5)].message").value(hasItem(startsWith("Malformed JSON"))))
+                .andExpect(jsonPath("$.errors[?(@.line == 7)].message").value("Account already exists: BULK001"));
+
+        assertThat(jdbcTemplate.queryForList("select iban from account where iban like 'BULK%' order by iban", String.class))
+                .containsExactly("BULK001", "BULK002", "BULK005");
+    }
+
+    @Test
+    @DisplayName("Should evict the cached account collection of customers that received accounts")
+    void shouldEvictCachedAccountCollections() throws Exception {
+        // Given
+        assertThat(accountIbans()).isEmpty();
+
+        // When
+        mockMvc.perform(post("/api/v1/accounts/bulk")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"iban\":\"BULK001\",\"currency\":\"EUR\",\"customerId\":\"bulk-customer\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+
+        // Then
+        assertThat(accountIbans()).containsExactly("BULK001");
+    }
+
+    @Test
+    @DisplayName("Should import transactions with the account currency and a generated ID")
+    void shouldImportTransactions() throws Exception {
+        // Given
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('BULK001', 'CHF', 'bulk-customer')");
+        String body = """
+                {"accountIban":"BULK001","amount":10.50,"description":"one","valueDate":"2024-01-01"}
+                {"accountIban":"BULK001","amount":-3.25,"description":"two","valueDate":"2024-01-02"}
+                {"accountIban":"BULK999","amount":1.00,"description":"three","valueDate":"2024-01-03"}
+                {"accountIban":"BULK001","description":"four","valueDate":"2024-01-04"}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/transactions/bulk")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(4))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors[?(@.line == 3)].message").value("Account not found: BULK999"))
+                .andExpect(jsonPath("$.errors[?(@.line == 4)].message").value("amount: Amount is required"));
+
+        assertThat(jdbcTemplate.queryForList(
+                "select currency from transactions where account_iban = 'BULK001'", String.class))
+                .containsExactly("CHF", "CHF");
+        assertThat(jdbcTemplate.queryForList(
+                "select customer_id from transactions where account_iban = 'BULK001'", String.class))
+                .containsOnly("bulk-customer");
+    }
+
+    private List<String> accountIbans() {
+        return transactionTemplate.execute(status -> customerRepository.findById("bulk-customer").orElseThrow()
+                .getAccounts().stream()
+                .map(Account::getIban)
+                .toList());
+    }
+}
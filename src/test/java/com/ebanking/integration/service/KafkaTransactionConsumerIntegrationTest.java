@@ -0,0 +1,66 @@
+package com.ebanking.integration.service;
+
+import com.ebanking.dto.TransactionKafkaDto;
+import com.ebanking.service.KafkaTransactionConsumer;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Kafka Transaction Consumer Integration Tests")
+class KafkaTransactionConsumerIntegrationTest {
+
+    @Autowired
+    private KafkaTransactionConsumer kafkaTransactionConsumer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into customer (id, password) values ('consumer-customer', 'x')");
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('CONSUME1', 'EUR', 'consumer-customer')");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from transactions where account_iban = 'CONSUME1'");
+        jdbcTemplate.update("delete from account where iban = 'CONSUME1'");
+        jdbcTemplate.update("delete from customer where id = 'consumer-customer'");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Should recognise a redelivered message by the database's duplicate key violation")
+    void shouldSkipRedeliveredMessage() {
+        // Given
+        TransactionKafkaDto dto = new TransactionKafkaDto();
+        dto.setId("0190b2a4-7c1e-7000-8000-0000000000c1");
+        dto.setAccountIban("CONSUME1");
+        dto.setAmount(BigDecimal.TEN);
+        dto.setValueDate(LocalDate.of(2024, 1, 3));
+        dto.setDescription("redelivered");
+        kafkaTransactionConsumer.consume(dto);
+
+        // When & Then
+        assertThatCode(() -> kafkaTransactionConsumer.consume(dto)).doesNotThrowAnyException();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from transactions where account_iban = 'CONSUME1'", Integer.class)).isEqualTo(1);
+    }
+}
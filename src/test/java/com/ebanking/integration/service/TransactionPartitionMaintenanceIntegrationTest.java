@@ -0,0 +1,179 @@
+package com.ebanking.integration.service;
+
+import com.ebanking.service.TransactionPartitionMaintenance;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the PostgreSQL migrations over seeded data and the partition maintenance against a real
+ * PostgreSQL, which the H2 migrations used by the other tests cannot stand in for.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Transaction Partition Maintenance Integration Tests")
+class TransactionPartitionMaintenanceIntegrationTest {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM");
+    // Same key as TransactionPartitionMaintenance
+    private static final long ADVISORY_LOCK_KEY = 0x7478_7061_7274L;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+    private static YearMonth currentMonth;
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        currentMonth = YearMonth.from(jdbcTemplate.queryForObject("select current_date", LocalDate.class));
+
+        // Seed the unpartitioned table as it exists before V3
+        flyway("2").migrate();
+        jdbcTemplate.update("insert into customer (id, password) values ('partition-customer', 'x')");
+        jdbcTemplate.update("insert into account (iban, currency, customer_id) values ('PART0001', 'EUR', 'partition-customer')");
+        insert("tx-2023-01", LocalDate.of(2023, 1, 15));
+        insert("tx-2023-02", LocalDate.of(2023, 2, 10));
+        insert("tx-current", currentMonth.atDay(1));
+        insert("tx-no-date", null);
+
+        flyway(null).migrate();
+    }
+
+    @Test
+    @DisplayName("Should copy every row into the partitioned table and book rows without a value date on the migration date")
+    void shouldKeepRowsThroughMigration() {
+        // When
+        List<String> ids = jdbcTemplate.queryForList(
+                "select id from transactions where id in ('tx-2023-02', 'tx-current', 'tx-no-date') order by id",
+                String.class);
+        LocalDate bookedOn = jdbcTemplate.queryForObject(
+                "select value_date from transactions where id = 'tx-no-date'", LocalDate.class);
+
+        // Then
+        assertThat(ids).containsExactly("tx-2023-02", "tx-current", "tx-no-date");
+        assertThat(YearMonth.from(bookedOn)).isEqualTo(currentMonth);
+        assertThat(partitionOf("tx-2023-02")).isEqualTo("transactions_2023_02");
+        assertThat(attachedPartitions()).contains(
+                "transactions_default", partitionName(currentMonth.plusMonths(3)));
+    }
+
+    @Test
+    @DisplayName("Should park a row of a month without partition in the default partition and move it when the month is created")
+    void shouldMoveRowsOutOfDefaultPartition() {
+        // Given
+        YearMonth farAhead = currentMonth.plusMonths(6);
+        insert("tx-far-ahead", farAhead.atDay(15));
+        assertThat(partitionOf("tx-far-ahead")).isEqualTo("transactions_default");
+        TransactionPartitionMaintenance maintenance =
+                new TransactionPartitionMaintenance(jdbcTemplate, transactionTemplate, 6, 0);
+
+        // When
+        boolean ran = maintenance.maintain(currentMonth);
+
+        // Then
+        assertThat(ran).isTrue();
+        assertThat(partitionOf("tx-far-ahead")).isEqualTo(partitionName(farAhead));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from transactions_default", Integer.class)).isZero();
+        assertThat(attachedPartitions()).contains("transactions_default");
+    }
+
+    @Test
+    @DisplayName("Should detach months past the retention period and rename them for archival")
+    void shouldArchiveExpiredPartitions() {
+        // Given
+        TransactionPartitionMaintenance maintenance =
+                new TransactionPartitionMaintenance(jdbcTemplate, transactionTemplate, 0, 12);
+
+        // When
+        maintenance.maintain(YearMonth.of(2024, 2));
+
+        // Then
+        assertThat(attachedPartitions()).doesNotContain("transactions_2023_01").contains("transactions_2023_02");
+        assertThat(jdbcTemplate.queryForList("select id from transactions_archive_2023_01", String.class))
+                .containsExactly("tx-2023-01");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from transactions where id = 'tx-2023-01'", Integer.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip the run while another instance holds the maintenance lock")
+    void shouldSkipWhileLockIsHeld() throws Exception {
+        // Given
+        TransactionPartitionMaintenance maintenance =
+                new TransactionPartitionMaintenance(jdbcTemplate, transactionTemplate, 3, 0);
+
+        try (Connection other = dataSource.getConnection(); Statement statement = other.createStatement()) {
+            statement.execute("select pg_advisory_lock(" + ADVISORY_LOCK_KEY + ")");
+
+            // When & Then
+            assertThat(maintenance.maintain(currentMonth)).isFalse();
+        }
+        assertThat(maintenance.maintain(currentMonth)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only enforce id uniqueness per value date since the primary key includes the partition key")
+    void shouldAcceptSameIdOnAnotherValueDate() {
+        // When
+        insert("tx-current", currentMonth.atDay(2));
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from transactions where id = 'tx-current'", Integer.class)).isEqualTo(2);
+        jdbcTemplate.update("delete from transactions where id = 'tx-current' and value_date = ?", currentMonth.atDay(2));
+    }
+
+    private static Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/postgresql")
+                .target(target == null ? "latest" : target)
+                .load();
+    }
+
+    private static void insert(String id, LocalDate valueDate) {
+        jdbcTemplate.update("insert into transactions (id, account_iban, amount, currency, value_date, description)"
+                + " values (?, 'PART0001', 10.00, 'EUR', ?, 'seed')", id, valueDate);
+    }
+
+    private static String partitionOf(String id) {
+        return jdbcTemplate.queryForObject(
+                "select tableoid::regclass::text from transactions where id = ?", String.class, id);
+    }
+
+    private static List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList("""
+                select c.relname
+                from pg_inherits i
+                join pg_class c on c.oid = i.inhrelid
+                join pg_class p on p.oid = i.inhparent
+                where p.relname = 'transactions'
+                """, String.class);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "transactions_" + month.format(SUFFIX_FORMAT);
+    }
+}
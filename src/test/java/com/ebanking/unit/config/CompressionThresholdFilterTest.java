@@ -0,0 +1,100 @@
+package com.ebanking.unit.config;
+
+import com.ebanking.config.CompressionThresholdFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompressionThresholdFilter Unit Tests")
+class CompressionThresholdFilterTest {
+
+    private final CompressionThresholdFilter filter = new CompressionThresholdFilter(DataSize.ofBytes(16));
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/v1/transactions/me");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Should send a body below the threshold with its length, despite the flushes Spring makes")
+    void shouldSetLengthOfSmallBody() throws Exception {
+        // Given
+        FilterChain chain = (req, res) -> {
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            res.getOutputStream().flush();
+            res.flushBuffer();
+            assertThat(res.isCommitted()).isFalse();
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getContentLength()).isEqualTo(2);
+        assertThat(response.getContentAsString()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Should set the length of a small body written through the writer")
+    void shouldSetLengthOfSmallWriterBody() throws Exception {
+        // Given
+        response.setCharacterEncoding("UTF-8");
+        FilterChain chain = (req, res) -> res.getWriter().write("{\"error\":\"é\"}");
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getContentLength()).isEqualTo(14);
+        assertThat(response.getContentAsString()).isEqualTo("{\"error\":\"é\"}");
+    }
+
+    @Test
+    @DisplayName("Should pass a body past the threshold on without a length")
+    void shouldPassLargeBodyThrough() throws Exception {
+        // Given
+        String body = "{\"transactions\":[1,2,3,4,5,6,7,8,9]}";
+        FilterChain chain = (req, res) -> {
+            res.getOutputStream().write(body.substring(0, 10).getBytes(StandardCharsets.UTF_8));
+            res.getOutputStream().write(body.substring(10).getBytes(StandardCharsets.UTF_8));
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getHeader("Content-Length")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Should leave requests that do not accept gzip alone")
+    void shouldSkipWithoutGzip() throws Exception {
+        // Given
+        request = new MockHttpServletRequest("GET", "/api/v1/transactions/me");
+        FilterChain chain = (req, res) -> {
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getHeader("Content-Length")).isNull();
+    }
+}
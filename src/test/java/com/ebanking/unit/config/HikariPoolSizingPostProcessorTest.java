@@ -0,0 +1,80 @@
+package com.ebanking.unit.config;
+
+import com.ebanking.config.HikariPoolSizingPostProcessor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HikariPoolSizingPostProcessor Unit Tests")
+class HikariPoolSizingPostProcessorTest {
+
+    @Test
+    @DisplayName("Should size the pool from Tomcat threads, listener concurrency and reserve")
+    void shouldDerivePoolSize() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.pool.derive-size", "true")
+                .withProperty("server.tomcat.threads.max", "40")
+                .withProperty("spring.kafka.listener.concurrency", "3")
+                .withProperty("app.datasource.pool.reserve", "2");
+        HikariDataSource dataSource = new HikariDataSource();
+
+        // When
+        new HikariPoolSizingPostProcessor(environment).postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(45);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Should add a connection per customer overview worker")
+    void shouldAddOverviewThreads() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("server.tomcat.threads.max", "40")
+                .withProperty("spring.kafka.listener.concurrency", "3")
+                .withProperty("app.overview.threads", "8")
+                .withProperty("app.datasource.pool.reserve", "2");
+
+        // When
+        int size = new HikariPoolSizingPostProcessor(environment).derivePoolSize();
+
+        // Then
+        assertThat(size).isEqualTo(53);
+    }
+
+    @Test
+    @DisplayName("Should keep an explicitly configured pool size")
+    void shouldKeepExplicitPoolSize() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.pool.derive-size", "true")
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "7");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(7);
+
+        // When
+        new HikariPoolSizingPostProcessor(environment).postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should leave the pool alone when derivation is disabled")
+    void shouldLeavePoolAloneWhenDisabled() {
+        // Given
+        HikariDataSource dataSource = new HikariDataSource();
+        int defaultSize = dataSource.getMaximumPoolSize();
+
+        // When
+        new HikariPoolSizingPostProcessor(new MockEnvironment()).postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(defaultSize);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ebanking.unit.config;
+
+import com.ebanking.config.KafkaListenerStarter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaListenerStarter Unit Tests")
+class KafkaListenerStarterTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private MessageListenerContainer stopped;
+
+    @Mock
+    private MessageListenerContainer running;
+
+    @Test
+    @DisplayName("Should start the containers that are not running")
+    void shouldStartStoppedContainers() {
+        // Given
+        when(registry.getListenerContainers()).thenReturn(List.of(stopped, running));
+        when(stopped.isRunning()).thenReturn(false);
+        when(running.isRunning()).thenReturn(true);
+
+        // When
+        new KafkaListenerStarter(registry, Duration.ZERO).startListeners();
+
+        // Then
+        verify(stopped).start();
+        verify(running, never()).start();
+    }
+
+    @Test
+    @DisplayName("Should start the containers off the thread that publishes the ready event")
+    void shouldStartAsynchronouslyWhenReady() {
+        // Given
+        when(registry.getListenerContainers()).thenReturn(List.of(stopped));
+        when(stopped.isRunning()).thenReturn(false);
+
+        // When
+        new KafkaListenerStarter(registry, Duration.ofMillis(10)).onApplicationReady();
+
+        // Then
+        verify(stopped, timeout(5000)).start();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ebanking.unit.config;
+
+import com.ebanking.config.LazyPackagesPostProcessor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.support.DefaultLifecycleProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LazyPackagesPostProcessor Unit Tests")
+class LazyPackagesPostProcessorTest {
+
+    @Test
+    @DisplayName("Should make beans of the configured packages lazy, including those their configuration declares")
+    void shouldMakeConfiguredPackagesLazy() {
+        // Given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("list", BeanDefinitionBuilder.genericBeanDefinition(ArrayList.class)
+                .getBeanDefinition());
+        beanFactory.registerBeanDefinition("listFactory", BeanDefinitionBuilder
+                .genericBeanDefinition(CopyOnWriteArrayList.class).getBeanDefinition());
+        beanFactory.registerBeanDefinition("declared", BeanDefinitionBuilder.genericBeanDefinition()
+                .setFactoryMethodOnBean("clone", "listFactory").getBeanDefinition());
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.startup.lazy-packages", "java.util.concurrent, org.example");
+
+        // When
+        new LazyPackagesPostProcessor(environment).postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertThat(beanFactory.getBeanDefinition("list").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("listFactory").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("declared").isLazyInit()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep lifecycle beans eager so they are started")
+    void shouldKeepLifecycleBeansEager() {
+        // Given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("lifecycleProcessor", BeanDefinitionBuilder
+                .genericBeanDefinition(DefaultLifecycleProcessor.class).getBeanDefinition());
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.startup.lazy-packages", "org.springframework.context");
+
+        // When
+        new LazyPackagesPostProcessor(environment).postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertThat(beanFactory.getBeanDefinition("lifecycleProcessor").isLazyInit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should change nothing when no packages are configured")
+    void shouldChangeNothingByDefault() {
+        // Given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("list", BeanDefinitionBuilder.genericBeanDefinition(ArrayList.class)
+                .getBeanDefinition());
+
+        // When
+        new LazyPackagesPostProcessor(new MockEnvironment().withProperty("app.startup.lazy-packages", ""))
+                .postProcessBeanFactory(beanFactory);
+
+        // Then
+        assertThat(beanFactory.getBeanDefinition("list").isLazyInit()).isFalse();
+    }
+}
@@ -4,10 +4,15 @@ import com.ebanking.controller.AuthController;
 import com.ebanking.domain.Customer;
 import com.ebanking.dto.LoginRequest;
 import com.ebanking.dto.LoginResponse;
+import com.ebanking.dto.RefreshTokenRequest;
 import com.ebanking.dto.RegisterRequest;
 import com.ebanking.exception.GlobalExceptionHandler;
+import com.ebanking.exception.InvalidRefreshTokenException;
 import com.ebanking.repository.CustomerRepository;
+import com.ebanking.security.CustomerIdBloomFilter;
 import com.ebanking.security.JwtService;
+import com.ebanking.security.LoginRateLimiter;
+import com.ebanking.security.RefreshTokenService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -49,6 +55,15 @@ class AuthControllerTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @Mock
+    private CustomerIdBloomFilter customerIdBloomFilter;
+
     @Mock
     private Authentication authentication;
 
@@ -64,9 +79,14 @@ class AuthControllerTest {
                         authenticationManager,
                         jwtService,
                         customerRepository,
-                        passwordEncoder))
+                        passwordEncoder,
+                        refreshTokenService,
+                        loginRateLimiter,
+                        customerIdBloomFilter))
                 .setControllerAdvice(new GlobalExceptionHandler()) // Add this line
                 .build();
+
+        lenient().when(loginRateLimiter.tryAcquireForCustomer(anyString())).thenReturn(true);
     }
 
     @Test
@@ -131,6 +151,8 @@ class AuthControllerTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(authentication);
         when(jwtService.generateToken("sherry")).thenReturn("jwt-token");
+        when(jwtService.getExpiration()).thenReturn(900000L);
+        when(refreshTokenService.issue("sherry")).thenReturn("refresh-token");
 
         // When & Then
         mockMvc.perform(post("/api/v1/auth/login")
@@ -139,10 +161,13 @@ class AuthControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").value("jwt-token"))
                 .andExpect(jsonPath("$.customerId").value("sherry"))
-                .andExpect(jsonPath("$.message").value("Login successful"));
+                .andExpect(jsonPath("$.message").value("Login successful"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-token"))
+                .andExpect(jsonPath("$.expiresIn").value(900));
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtService).generateToken("sherry");
+        verify(refreshTokenService).issue("sherry");
     }
 
     @Test
@@ -164,6 +189,84 @@ class AuthControllerTest {
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtService, never()).generateToken(anyString());
+        verify(refreshTokenService, never()).issue(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return 429 without checking credentials when customer is rate limited")
+    void shouldReturn429WhenCustomerIsRateLimited() throws Exception {
+        // Given
+        LoginRequest request = new LoginRequest();
+        request.setCustomerId("sherry");
+        request.setPassword("password123");
+
+        when(loginRateLimiter.tryAcquireForCustomer("sherry")).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.error").value("Too Many Requests"));
+
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("Should issue new token pair when refresh token is valid")
+    void shouldIssueNewTokenPairWhenRefreshTokenIsValid() throws Exception {
+        // Given
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("refresh-token");
+
+        when(refreshTokenService.rotate("refresh-token"))
+                .thenReturn(new RefreshTokenService.RotatedToken("sherry", "rotated-token"));
+        when(jwtService.generateToken("sherry")).thenReturn("jwt-token");
+        when(jwtService.getExpiration()).thenReturn(900000L);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("jwt-token"))
+                .andExpect(jsonPath("$.customerId").value("sherry"))
+                .andExpect(jsonPath("$.refreshToken").value("rotated-token"));
+
+        verify(refreshTokenService).rotate("refresh-token");
+        verify(authenticationManager, never()).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("Should return 401 when refresh token is rejected")
+    void shouldReturn401WhenRefreshTokenIsRejected() throws Exception {
+        // Given
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken("reused-token");
+
+        when(refreshTokenService.rotate("reused-token"))
+                .thenThrow(new InvalidRefreshTokenException("Refresh token has already been used"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("Invalid Refresh Token"));
+
+        verify(jwtService, never()).generateToken(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when refresh token is missing")
+    void shouldReturn400WhenRefreshTokenIsMissing() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest())))
+                .andExpect(status().isBadRequest());
+
+        verify(refreshTokenService, never()).rotate(anyString());
     }
 
     @Test
@@ -174,7 +277,7 @@ class AuthControllerTest {
         request.setCustomerId("newuser");
         request.setPassword("password123");
 
-        when(customerRepository.existsById("newuser")).thenReturn(false);
+        when(customerIdBloomFilter.mightContain("newuser")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encoded-password");
         when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> {
             Customer customer = invocation.getArgument(0);
@@ -186,11 +289,58 @@ class AuthControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value("newuser"));
+                .andExpect(jsonPath("$.id").value("newuser"))
+                .andExpect(jsonPath("$.new").doesNotExist());
 
-        verify(customerRepository).existsById("newuser");
+        verify(customerRepository, never()).existsByIdForWrite(anyString());
         verify(passwordEncoder).encode("password123");
         verify(customerRepository).save(any(Customer.class));
+        verify(customerIdBloomFilter).put("newuser");
+    }
+
+    @Test
+    @DisplayName("Should confirm a Bloom filter hit against the database before registering")
+    void shouldConfirmBloomFilterHitBeforeRegistering() throws Exception {
+        // Given
+        RegisterRequest request = new RegisterRequest();
+        request.setCustomerId("newuser");
+        request.setPassword("password123");
+
+        when(customerIdBloomFilter.mightContain("newuser")).thenReturn(true);
+        when(customerRepository.existsByIdForWrite("newuser")).thenReturn(false);
+        when(passwordEncoder.encode("password123")).thenReturn("encoded-password");
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(customerRepository).existsByIdForWrite("newuser");
+        verify(customerRepository).save(any(Customer.class));
+    }
+
+    @Test
+    @DisplayName("Should return 409 when the insert violates the primary key")
+    void shouldReturn409WhenInsertViolatesPrimaryKey() throws Exception {
+        // Given
+        RegisterRequest request = new RegisterRequest();
+        request.setCustomerId("racinguser");
+        request.setPassword("password123");
+
+        when(customerIdBloomFilter.mightContain("racinguser")).thenReturn(false);
+        when(passwordEncoder.encode("password123")).thenReturn("encoded-password");
+        when(customerRepository.save(any(Customer.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+
+        verify(customerIdBloomFilter).put("racinguser");
     }
 
     @Test
@@ -207,7 +357,7 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(customerRepository, never()).existsById(anyString());
+        verify(customerRepository, never()).existsByIdForWrite(anyString());
         verify(customerRepository, never()).save(any());
     }
 
@@ -219,7 +369,8 @@ class AuthControllerTest {
         request.setCustomerId("existinguser");
         request.setPassword("password123");
 
-        when(customerRepository.existsById("existinguser")).thenReturn(true);
+        when(customerIdBloomFilter.mightContain("existinguser")).thenReturn(true);
+        when(customerRepository.existsByIdForWrite("existinguser")).thenReturn(true);
 
         // When & Then
         mockMvc.perform(post("/api/v1/auth/register")
@@ -227,7 +378,8 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isConflict()); // Changed from isBadRequest() to isConflict()
 
-        verify(customerRepository).existsById("existinguser");
+        verify(customerRepository).existsByIdForWrite("existinguser");
+        verify(passwordEncoder, never()).encode(anyString());
         verify(customerRepository, never()).save(any());
     }
 }
\ No newline at end of file
@@ -4,14 +4,22 @@ import com.ebanking.controller.TransactionController;
 import com.ebanking.domain.Account;
 import com.ebanking.domain.Customer;
 import com.ebanking.domain.Transaction;
+import com.ebanking.dto.BulkImportResponse;
+import com.ebanking.dto.CustomerOverviewDto;
+import com.ebanking.dto.StatementDto;
 import com.ebanking.dto.TransactionRequestDto;
 import com.ebanking.dto.TransactionResponseDto;
 import com.ebanking.exception.GlobalExceptionHandler;
 import com.ebanking.mapper.TransactionMapper;
 import com.ebanking.repository.AccountRepository;
+import com.ebanking.service.BulkImportService;
+import com.ebanking.service.CustomerOverviewService;
+import com.ebanking.service.StatementResponseCache;
+import com.ebanking.service.StatementService;
 import com.ebanking.service.TransactionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,13 +27,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -53,16 +68,29 @@ class TransactionControllerTest {
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private BulkImportService bulkImportService;
+
+    @Mock
+    private CustomerOverviewService customerOverviewService;
+
+    @Mock
+    private StatementService statementService;
+
     private Customer testCustomer;
     private Account testAccount;
     private Transaction testTransaction;
     private TransactionRequestDto transactionRequestDto;
     private TransactionResponseDto transactionResponseDto;
+    private StatementResponseCache statementResponseCache;
 
     @BeforeEach
     void setUp() {
+        statementResponseCache = new StatementResponseCache(new ObjectMapper().registerModule(new JavaTimeModule()),
+                TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), true, DataSize.ofMegabytes(1), Duration.ofHours(1), false);
         mockMvc = MockMvcBuilders.standaloneSetup(new com.ebanking.controller.TransactionController(
-                        transactionService, accountRepository, transactionMapper))
+                        transactionService, accountRepository, transactionMapper, bulkImportService,
+                        customerOverviewService, statementService, statementResponseCache))
                 .build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
@@ -106,7 +134,11 @@ class TransactionControllerTest {
                 .standaloneSetup(new TransactionController(
                         transactionService,
                         accountRepository,
-                        transactionMapper))
+                        transactionMapper,
+                        bulkImportService,
+                        customerOverviewService,
+                        statementService,
+                        statementResponseCache))
                 .setControllerAdvice(new GlobalExceptionHandler()) // Add this line
                 .build();
     }
@@ -115,7 +147,7 @@ class TransactionControllerTest {
     @DisplayName("Should create transaction successfully")
     void shouldCreateTransactionSuccessfully() throws Exception {
         // Given
-        when(accountRepository.findById("12345")).thenReturn(Optional.of(testAccount));
+        when(accountRepository.findByIbanForWrite("12345")).thenReturn(Optional.of(testAccount));
         when(transactionMapper.toEntity(any(TransactionRequestDto.class), any(Account.class)))
                 .thenReturn(testTransaction);
         when(transactionService.createTransaction(
@@ -134,7 +166,7 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.amount").value(100.00))
                 .andExpect(jsonPath("$.description").value("Test transaction"));
 
-        verify(accountRepository).findById("12345");
+        verify(accountRepository).findByIbanForWrite("12345");
         verify(transactionMapper).toEntity(any(TransactionRequestDto.class), any(Account.class));
         verify(transactionService).createTransaction(
                 eq("12345"), eq(BigDecimal.valueOf(100.00)), eq("Test transaction"), any(LocalDate.class));
@@ -145,7 +177,7 @@ class TransactionControllerTest {
     @DisplayName("Should return 400 when account not found")
     void shouldReturn400WhenAccountNotFound() throws Exception {
         // Given
-        when(accountRepository.findById("12345")).thenReturn(Optional.empty());
+        when(accountRepository.findByIbanForWrite("12345")).thenReturn(Optional.empty());
 
         // When & Then
         mockMvc.perform(post("/api/v1/transactions")
@@ -153,7 +185,7 @@ class TransactionControllerTest {
                         .content(objectMapper.writeValueAsString(transactionRequestDto)))
                 .andExpect(status().isBadRequest());
 
-        verify(accountRepository).findById("12345");
+        verify(accountRepository).findByIbanForWrite("12345");
         verify(transactionService, never()).createTransaction(anyString(), any(), anyString(), any());
     }
 
@@ -161,11 +193,9 @@ class TransactionControllerTest {
     @DisplayName("Should get transactions by account")
     void shouldGetTransactionsByAccount() throws Exception {
         // Given
-        List<Transaction> transactions = Arrays.asList(testTransaction);
         List<TransactionResponseDto> responseDtos = Arrays.asList(transactionResponseDto);
 
-        when(transactionService.getTransactionsByAccount("12345")).thenReturn(transactions);
-        when(transactionMapper.toDto(testTransaction)).thenReturn(transactionResponseDto);
+        when(transactionService.getTransactionsByAccount("12345")).thenReturn(responseDtos);
 
         // When & Then
         mockMvc.perform(get("/api/v1/transactions/account/12345"))
@@ -177,18 +207,16 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.totalDebit").value(0));
 
         verify(transactionService).getTransactionsByAccount("12345");
-        verify(transactionMapper).toDto(testTransaction);
+        verify(transactionMapper, never()).toDto(any());
     }
 
     @Test
     @DisplayName("Should get transactions by customer")
     void shouldGetTransactionsByCustomer() throws Exception {
         // Given
-        List<Transaction> transactions = Arrays.asList(testTransaction);
         List<TransactionResponseDto> responseDtos = Arrays.asList(transactionResponseDto);
 
-        when(transactionService.getTransactionsByCustomer("sherry")).thenReturn(transactions);
-        when(transactionMapper.toDto(testTransaction)).thenReturn(transactionResponseDto);
+        when(transactionService.getTransactionsByCustomer("sherry")).thenReturn(responseDtos);
 
         // When & Then
         mockMvc.perform(get("/api/v1/transactions/customer/sherry"))
@@ -199,7 +227,207 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$[0].amount").value(100.00));
 
         verify(transactionService).getTransactionsByCustomer("sherry");
-        verify(transactionMapper).toDto(testTransaction);
+        verify(transactionMapper, never()).toDto(any());
+    }
+
+    @Test
+    @DisplayName("Should get transactions of the authenticated customer")
+    void shouldGetTransactionsOfAuthenticatedCustomer() throws Exception {
+        // Given
+        when(transactionService.getTransactionsByCustomer("sherry")).thenReturn(Arrays.asList(transactionResponseDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me")
+                        .principal(new UsernamePasswordAuthenticationToken("sherry", null)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(testTransaction.getId()))
+                .andExpect(jsonPath("$[0].accountIban").value("12345"));
+
+        verify(transactionService).getTransactionsByCustomer("sherry");
+    }
+
+    @Test
+    @DisplayName("Should scope account transactions to the authenticated customer")
+    void shouldScopeAccountTransactionsToAuthenticatedCustomer() throws Exception {
+        // Given
+        when(transactionService.getTransactionsByAccountForCustomer("12345", "sherry"))
+                .thenReturn(Arrays.asList(transactionResponseDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/account/12345")
+                        .principal(new UsernamePasswordAuthenticationToken("sherry", null)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions[0].id").value(testTransaction.getId()))
+                .andExpect(jsonPath("$.totalCredit").value(100.00));
+
+        verify(transactionService).getTransactionsByAccountForCustomer("12345", "sherry");
+        verify(transactionService, never()).getTransactionsByAccount(anyString());
+    }
+
+    @Test
+    @DisplayName("Should get one month of transactions for an account")
+    void shouldGetTransactionsByAccountForMonth() throws Exception {
+        // Given
+        when(transactionService.getTransactionsByAccountForMonth("12345", YearMonth.of(2024, 2)))
+                .thenReturn(Arrays.asList(transactionResponseDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/account/12345/2024/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions[0].id").value(testTransaction.getId()))
+                .andExpect(jsonPath("$.totalCredit").value(100.00));
+
+        verify(transactionService).getTransactionsByAccountForMonth("12345", YearMonth.of(2024, 2));
+    }
+
+    @Test
+    @DisplayName("Should scope one month of account transactions to the authenticated customer")
+    void shouldScopeMonthlyTransactionsToAuthenticatedCustomer() throws Exception {
+        // Given
+        when(transactionService.getTransactionsByAccountForCustomerAndMonth("12345", "sherry", YearMonth.of(2024, 2)))
+                .thenReturn(Arrays.asList(transactionResponseDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/account/12345/2024/2")
+                        .principal(new UsernamePasswordAuthenticationToken("sherry", null)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions[0].id").value(testTransaction.getId()));
+
+        verify(transactionService).getTransactionsByAccountForCustomerAndMonth("12345", "sherry", YearMonth.of(2024, 2));
+        verify(transactionService, never()).getTransactionsByAccountForMonth(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should serve a closed month from the response cache and honour If-None-Match")
+    void shouldCacheClosedMonthResponse() throws Exception {
+        // Given
+        when(transactionService.getTransactionsByAccountForMonth("12345", YearMonth.of(2024, 2)))
+                .thenReturn(Arrays.asList(transactionResponseDto));
+        String etag = mockMvc.perform(get("/api/v1/transactions/account/12345/2024/2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/account/12345/2024/2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.transactions[0].id").value(testTransaction.getId()));
+        mockMvc.perform(get("/api/v1/transactions/account/12345/2024/2").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(transactionService, times(1)).getTransactionsByAccountForMonth("12345", YearMonth.of(2024, 2));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an invalid month")
+    void shouldReturn400ForInvalidMonth() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/account/12345/2024/13"))
+                .andExpect(status().isBadRequest());
+
+        verify(transactionService, never()).getTransactionsByAccountForMonth(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a year out of range")
+    void shouldReturn400ForYearOutOfRange() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/account/12345/1000000000/1"))
+                .andExpect(status().isBadRequest());
+
+        verify(transactionService, never()).getTransactionsByAccountForMonth(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should pass an NDJSON body to the bulk import and return its report")
+    void shouldImportTransactionsInBulk() throws Exception {
+        // Given
+        BulkImportResponse report = new BulkImportResponse();
+        report.setReceived(2);
+        report.setImported(1);
+        report.setFailed(1);
+        report.getErrors().add(new BulkImportResponse.LineError(2, "Account not found: 99999"));
+        when(bulkImportService.importTransactions(any())).thenReturn(report);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/transactions/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"accountIban\":\"12345\"}\n{\"accountIban\":\"99999\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Account not found: 99999"));
+
+        verify(bulkImportService).importTransactions(any());
+    }
+
+    @Test
+    @DisplayName("Should return the overview with stage timings in the Server-Timing header")
+    void shouldReturnMyOverview() throws Exception {
+        // Given
+        CustomerOverviewDto overview = new CustomerOverviewDto();
+        overview.setBaseCurrency("EUR");
+        overview.setTransactions(List.of(transactionResponseDto));
+        Map<String, Long> stages = new LinkedHashMap<>();
+        stages.put("accounts", 1_500_000L);
+        stages.put("total", 4_000_000L);
+        when(customerOverviewService.getOverview("sherry", "EUR"))
+                .thenReturn(new CustomerOverviewService.Overview(overview, stages));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/overview")
+                        .param("baseCurrency", "EUR")
+                        .principal(new UsernamePasswordAuthenticationToken("sherry", null)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", "accounts;dur=1.5, total;dur=4.0"))
+                .andExpect(jsonPath("$.baseCurrency").value("EUR"))
+                .andExpect(jsonPath("$.transactions.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Should reject an overview in an unsupported currency")
+    void shouldRejectOverviewInUnsupportedCurrency() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/overview")
+                        .param("baseCurrency", "XXX")
+                        .principal(new UsernamePasswordAuthenticationToken("sherry", null)))
+                .andExpect(status().isBadRequest());
+
+        verify(customerOverviewService, never()).getOverview(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return the monthly statement in the base currency")
+    void shouldReturnMyStatement() throws Exception {
+        // Given
+        StatementDto statement = new StatementDto();
+        statement.setMonth(YearMonth.of(2024, 1));
+        statement.setBaseCurrency("EUR");
+        statement.setEntries(List.of());
+        statement.setTotalDebit(new BigDecimal("0.00"));
+        statement.setTotalCredit(new BigDecimal("12.50"));
+        when(statementService.getStatement("sherry", YearMonth.of(2024, 1), "EUR")).thenReturn(statement);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/statement/2024/1")
+                        .param("baseCurrency", "EUR")
+                        .principal(new UsernamePasswordAuthenticationToken("sherry", null)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.baseCurrency").value("EUR"))
+                .andExpect(jsonPath("$.totalCredit").value(12.50));
+    }
+
+    @Test
+    @DisplayName("Should reject a statement for an invalid month")
+    void shouldRejectStatementForInvalidMonth() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/me/statement/2024/13")
+                        .principal(new UsernamePasswordAuthenticationToken("sherry", null)))
+                .andExpect(status().isBadRequest());
+
+        verify(statementService, never()).getStatement(any(), any(), any());
     }
 
     @Test
@@ -234,7 +462,7 @@ class TransactionControllerTest {
                         .content(objectMapper.writeValueAsString(invalidRequest)))
                 .andExpect(status().isBadRequest());
 
-        verify(accountRepository, never()).findById(anyString());
+        verify(accountRepository, never()).findByIbanForWrite(anyString());
         verify(transactionService, never()).createTransaction(anyString(), any(), anyString(), any());
     }
 
@@ -254,7 +482,7 @@ class TransactionControllerTest {
                         .content(objectMapper.writeValueAsString(invalidRequest)))
                 .andExpect(status().isBadRequest());
 
-        verify(accountRepository, never()).findById(anyString());
+        verify(accountRepository, never()).findByIbanForWrite(anyString());
         verify(transactionService, never()).createTransaction(anyString(), any(), anyString(), any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.ebanking.unit.domain;
+
+import com.ebanking.domain.Money;
+import com.ebanking.domain.MoneyAccumulator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money Unit Tests")
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should convert to and from BigDecimal without changing the value")
+    void shouldRoundTripBigDecimal() {
+        // When
+        Money money = Money.of(new BigDecimal("-75.5"), "CHF");
+
+        // Then
+        assertThat(money.minorUnits()).isEqualTo(-7550);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("-75.50"));
+        assertThat(money.isNegative()).isTrue();
+        assertThat(money.abs()).isEqualTo(Money.ofMinor(7550, "CHF"));
+    }
+
+    @Test
+    @DisplayName("Should reject amounts with more than two decimal places or out of range")
+    void shouldRejectUnrepresentableAmounts() {
+        // When & Then
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1.005"), "GBP"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1.005");
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e17"), "GBP"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail on overflow and on mixed currencies")
+    void shouldCheckArithmetic() {
+        // Given
+        Money max = Money.ofMinor(Long.MAX_VALUE, "GBP");
+
+        // When & Then
+        assertThat(Money.ofMinor(150, "GBP").plus(Money.ofMinor(-50, "GBP"))).isEqualTo(Money.ofMinor(100, "GBP"));
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1, "GBP"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE, "GBP").negate()).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.minus(Money.ofMinor(1, "EUR")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Currency mismatch: GBP and EUR");
+    }
+
+    @Test
+    @DisplayName("Should convert half up to the nearest minor unit")
+    void shouldConvert() {
+        // When
+        Money converted = Money.of(new BigDecimal("10.05"), "EUR").convert(new BigDecimal("0.85"), "GBP");
+
+        // Then
+        assertThat(converted).isEqualTo(Money.of(new BigDecimal("8.54"), "GBP"));
+    }
+
+    @Test
+    @DisplayName("Should serialize the amount exactly as BigDecimal and read it back")
+    void shouldRoundTripJson() throws Exception {
+        // Given
+        Money money = Money.of(new BigDecimal("100.10"), "GBP");
+
+        // When
+        String json = objectMapper.writeValueAsString(money);
+
+        // Then
+        assertThat(json).isEqualTo("{\"amount\":100.10,\"currency\":\"GBP\"}");
+        assertThat(objectMapper.readValue(json, Money.class)).isEqualTo(money);
+        assertThat(objectMapper.readValue("{\"currency\":\"GBP\",\"amount\":\"0.10\"}", Money.class))
+                .isEqualTo(Money.ofMinor(10, "GBP"));
+        assertThatThrownBy(() -> objectMapper.readValue("{\"amount\":1.001,\"currency\":\"GBP\"}", Money.class))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    @DisplayName("Accumulator totals should equal BigDecimal sums in value and scale")
+    void accumulatorShouldMatchBigDecimalSums() throws Exception {
+        // Given
+        List<BigDecimal> amounts = List.of(new BigDecimal("100.00"), new BigDecimal("-20.50"),
+                BigDecimal.ZERO, new BigDecimal("-0.01"), new BigDecimal("5.25"));
+        MoneyAccumulator totals = new MoneyAccumulator();
+
+        // When
+        amounts.forEach(totals::add);
+
+        // Then
+        BigDecimal expectedDebit = amounts.stream().filter(a -> a.signum() < 0).map(BigDecimal::abs)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal expectedCredit = amounts.stream().filter(a -> a.signum() > 0)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(objectMapper.writeValueAsString(totals.getTotalDebit()))
+                .isEqualTo(objectMapper.writeValueAsString(expectedDebit)).isEqualTo("20.51");
+        assertThat(objectMapper.writeValueAsString(totals.getTotalCredit()))
+                .isEqualTo(objectMapper.writeValueAsString(expectedCredit)).isEqualTo("105.25");
+    }
+
+    @Test
+    @DisplayName("Accumulator totals should be unscaled zero when nothing was added to a side")
+    void accumulatorShouldReturnZeroForEmptySide() {
+        // Given
+        MoneyAccumulator totals = new MoneyAccumulator();
+
+        // When
+        totals.add(new BigDecimal("10.00"));
+        totals.add((BigDecimal) null);
+
+        // Then
+        assertThat(totals.getTotalDebit()).isSameAs(BigDecimal.ZERO);
+        assertThat(totals.getTotalCredit()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(totals.getCreditMinorUnits()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Accumulator should fail on overflow")
+    void accumulatorShouldFailOnOverflow() {
+        // Given
+        MoneyAccumulator totals = new MoneyAccumulator();
+        totals.add(Long.MAX_VALUE);
+
+        // When & Then
+        assertThatThrownBy(() -> totals.add(1L)).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ebanking.unit.dto;
+
+import com.ebanking.dto.AccountTransactionsSummaryDto;
+import com.ebanking.dto.TransactionJsonComponent;
+import com.ebanking.dto.TransactionResponseDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionJsonComponent Unit Tests")
+class TransactionJsonComponentTest {
+
+    @Test
+    @DisplayName("Should write the same transaction JSON as the bean serializer")
+    void shouldMatchBeanSerializerForTransactions() throws Exception {
+        // Given
+        TransactionResponseDto transaction = new TransactionResponseDto("tx-1", "GB29NWBK60161331926819", "GBP",
+                new BigDecimal("-1234.50"), "Café \"Le Petit\"\n\\ ☃", LocalDate.of(2024, 2, 29));
+
+        // When & Then
+        assertSameJson(transaction, JsonInclude.Include.NON_NULL, false);
+    }
+
+    @Test
+    @DisplayName("Should follow the configured inclusion for null and empty values")
+    void shouldFollowInclusion() throws Exception {
+        // Given
+        TransactionResponseDto transaction = new TransactionResponseDto("tx-2", "CH9300762011623852957", "CHF",
+                null, "", null);
+
+        // When & Then
+        for (JsonInclude.Include include : List.of(JsonInclude.Include.NON_NULL, JsonInclude.Include.ALWAYS,
+                JsonInclude.Include.NON_EMPTY)) {
+            assertSameJson(transaction, include, false);
+        }
+        assertThat(customMapper(JsonInclude.Include.NON_NULL, false).writeValueAsString(transaction))
+                .isEqualTo("{\"id\":\"tx-2\",\"accountIban\":\"CH9300762011623852957\",\"currency\":\"CHF\",\"description\":\"\"}");
+    }
+
+    @Test
+    @DisplayName("Should write the value date as an array when dates are written as timestamps")
+    void shouldWriteDateAsTimestamp() throws Exception {
+        // Given
+        TransactionResponseDto transaction = new TransactionResponseDto("tx-3", "DE89370400440532013000", "EUR",
+                new BigDecimal("10.00"), "test", LocalDate.of(2024, 1, 5));
+
+        // When & Then
+        assertSameJson(transaction, JsonInclude.Include.NON_NULL, true);
+    }
+
+    @Test
+    @DisplayName("Should write the same summary JSON as the bean serializer")
+    void shouldMatchBeanSerializerForSummaries() throws Exception {
+        // Given
+        AccountTransactionsSummaryDto summary = new AccountTransactionsSummaryDto();
+        summary.setTransactions(Arrays.asList(
+                new TransactionResponseDto("tx-1", "GB29NWBK60161331926819", "GBP", new BigDecimal("100.10"),
+                        "Salary", LocalDate.of(2024, 1, 1)),
+                null,
+                new TransactionResponseDto("tx-2", "GB29NWBK60161331926819", "GBP", new BigDecimal("-20"),
+                        null, LocalDate.of(2024, 1, 31))));
+        summary.setTotalDebit(new BigDecimal("20"));
+        summary.setTotalCredit(new BigDecimal("100.10"));
+        AccountTransactionsSummaryDto empty = new AccountTransactionsSummaryDto();
+        empty.setTransactions(List.of());
+        empty.setTotalDebit(BigDecimal.ZERO);
+
+        // When & Then
+        for (JsonInclude.Include include : List.of(JsonInclude.Include.NON_NULL, JsonInclude.Include.ALWAYS,
+                JsonInclude.Include.NON_EMPTY)) {
+            assertSameJson(summary, include, false);
+            assertSameJson(empty, include, false);
+        }
+    }
+
+    private static void assertSameJson(Object value, JsonInclude.Include include, boolean datesAsTimestamps)
+            throws Exception {
+        String expected = beanMapper(include, datesAsTimestamps).writeValueAsString(value);
+        assertThat(customMapper(include, datesAsTimestamps).writeValueAsString(value)).isEqualTo(expected);
+    }
+
+    private static ObjectMapper beanMapper(JsonInclude.Include include, boolean datesAsTimestamps) {
+        return builder(include, datesAsTimestamps).build();
+    }
+
+    private static ObjectMapper customMapper(JsonInclude.Include include, boolean datesAsTimestamps) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(TransactionResponseDto.class, new TransactionJsonComponent.TransactionResponseSerializer());
+        module.addSerializer(AccountTransactionsSummaryDto.class, new TransactionJsonComponent.SummarySerializer());
+        return builder(include, datesAsTimestamps).addModule(module).build();
+    }
+
+    private static JsonMapper.Builder builder(JsonInclude.Include include, boolean datesAsTimestamps) {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, datesAsTimestamps)
+                .serializationInclusion(include);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ebanking.unit.security;
+
+import com.ebanking.repository.CustomerRepository;
+import com.ebanking.security.CustomerIdBloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerIdBloomFilter Unit Tests")
+class CustomerIdBloomFilterTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Test
+    @DisplayName("Should contain every loaded and added ID")
+    void shouldContainEveryLoadedAndAddedId() {
+        // Given
+        when(customerRepository.streamAllIds()).thenReturn(Stream.of("sherry", "tom"));
+        CustomerIdBloomFilter filter = new CustomerIdBloomFilter(customerRepository, 1000, 0.01);
+
+        // When
+        filter.loadExistingIds();
+        filter.put("newuser");
+
+        // Then
+        assertThat(filter.mightContain("sherry")).isTrue();
+        assertThat(filter.mightContain("tom")).isTrue();
+        assertThat(filter.mightContain("newuser")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near the configured target")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        // Given
+        CustomerIdBloomFilter filter = new CustomerIdBloomFilter(customerRepository, 10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("P-" + i));
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("Q-" + i))
+                .count();
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing")
+    void shouldRejectInvalidSizing() {
+        // When & Then
+        assertThatThrownBy(() -> new CustomerIdBloomFilter(customerRepository, 1000, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,6 +2,7 @@ package com.ebanking.unit.security;
 
 import com.ebanking.security.JwtAuthenticationFilter;
 import com.ebanking.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -51,9 +52,12 @@ class JwtAuthenticationFilterTest {
 
     private UserDetails testUserDetails;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, userDetailsService);
+        meterRegistry = new SimpleMeterRegistry();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtService, userDetailsService, meterRegistry);
 
         testUserDetails = User.builder()
                 .username("sherry")
@@ -90,6 +94,10 @@ class JwtAuthenticationFilterTest {
         verify(jwtService).isTokenValid(jwtToken, testUserDetails);
         verify(securityContext).setAuthentication(any(UsernamePasswordAuthenticationToken.class));
         verify(filterChain).doFilter(request, response);
+        assertThat(stageCount("verify", "success")).isEqualTo(1);
+        assertThat(stageCount("user_lookup", "found")).isEqualTo(1);
+        assertThat(stageCount("validate", "valid")).isEqualTo(1);
+        assertThat(stageCount("total", "authenticated")).isEqualTo(1);
     }
 
     @Test
@@ -149,5 +157,15 @@ class JwtAuthenticationFilterTest {
         verify(userDetailsService, never()).loadUserByUsername(anyString());
         verify(securityContext, never()).setAuthentication(any());
         verify(filterChain).doFilter(request, response);
+        assertThat(stageCount("verify", "invalid")).isEqualTo(1);
+        assertThat(stageCount("total", "error")).isEqualTo(1);
+    }
+
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get("security.jwt.filter")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
     }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.ebanking.unit.security;
+
+import com.ebanking.security.LoginRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LoginRateLimiter Unit Tests")
+class LoginRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private LoginRateLimiter limiter(boolean enabled) {
+        return new LoginRateLimiter(enabled, 2, Duration.ofMinutes(1), 3, Duration.ofMinutes(1),
+                1000, Duration.ofMinutes(10), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should limit each customer independently and count rejections")
+    void shouldLimitEachCustomerIndependently() {
+        // Given
+        LoginRateLimiter limiter = limiter(true);
+
+        // When & Then
+        assertThat(limiter.tryAcquireForCustomer("sherry")).isTrue();
+        assertThat(limiter.tryAcquireForCustomer("sherry")).isTrue();
+        assertThat(limiter.tryAcquireForCustomer("sherry")).isFalse();
+        assertThat(limiter.tryAcquireForCustomer("tom")).isTrue();
+        assertThat(meterRegistry.get("auth.rate_limit.rejected").tag("key", "customer").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should limit each address and suggest a retry delay")
+    void shouldLimitEachAddress() {
+        // Given
+        LoginRateLimiter limiter = limiter(true);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquireForAddress("10.0.0.1")).isTrue();
+        }
+
+        // Then
+        assertThat(limiter.tryAcquireForAddress("10.0.0.1")).isFalse();
+        assertThat(limiter.retryAfterSeconds("10.0.0.1")).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("auth.rate_limit.rejected").tag("key", "address").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should allow everything when disabled")
+    void shouldAllowEverythingWhenDisabled() {
+        // Given
+        LoginRateLimiter limiter = limiter(false);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquireForCustomer("sherry")).isTrue();
+            assertThat(limiter.tryAcquireForAddress("10.0.0.1")).isTrue();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ebanking.unit.security;
+
+import com.ebanking.domain.RefreshToken;
+import com.ebanking.exception.InvalidRefreshTokenException;
+import com.ebanking.repository.RefreshTokenRepository;
+import com.ebanking.security.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Unit Tests")
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpiration", 60_000L);
+    }
+
+    @Test
+    @DisplayName("Should store only the hash of an issued refresh token")
+    void shouldStoreOnlyHashOfIssuedToken() {
+        // Given
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+
+        // When
+        String rawToken = refreshTokenService.issue("sherry");
+
+        // Then
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken stored = captor.getValue();
+        assertThat(rawToken).isNotBlank();
+        assertThat(stored.getTokenHash()).hasSize(64).isNotEqualTo(rawToken);
+        assertThat(stored.getCustomerId()).isEqualTo("sherry");
+        assertThat(stored.getFamilyId()).isNotBlank();
+        assertThat(stored.getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("Should rotate a valid refresh token within the same family")
+    void shouldRotateValidTokenWithinSameFamily() {
+        // Given
+        String rawToken = refreshTokenService.issue("sherry");
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken stored = captor.getValue();
+
+        when(refreshTokenRepository.findById(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.markUsed(eq(stored.getTokenHash()), any(Instant.class))).thenReturn(1);
+
+        // When
+        RefreshTokenService.RotatedToken rotated = refreshTokenService.rotate(rawToken);
+
+        // Then
+        assertThat(rotated.customerId()).isEqualTo("sherry");
+        assertThat(rotated.refreshToken()).isNotEqualTo(rawToken);
+        verify(refreshTokenRepository, times(2)).save(captor.capture());
+        assertThat(captor.getValue().getFamilyId()).isEqualTo(stored.getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("Should revoke the family when a used refresh token is presented again")
+    void shouldRevokeFamilyWhenTokenIsReused() {
+        // Given
+        RefreshToken used = RefreshToken.builder()
+                .tokenHash("hash")
+                .customerId("sherry")
+                .familyId("family-1")
+                .expiresAt(Instant.now().plusSeconds(60))
+                .usedAt(Instant.now())
+                .build();
+        when(refreshTokenRepository.findById(anyString())).thenReturn(Optional.of(used));
+        when(refreshTokenRepository.markUsed(eq("hash"), any(Instant.class))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.rotate("stolen-token"))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("already been used");
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an expired refresh token")
+    void shouldRejectExpiredToken() {
+        // Given
+        RefreshToken expired = RefreshToken.builder()
+                .tokenHash("hash")
+                .customerId("sherry")
+                .familyId("family-1")
+                .expiresAt(Instant.now().minusSeconds(1))
+                .build();
+        when(refreshTokenRepository.findById(anyString())).thenReturn(Optional.of(expired));
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.rotate("expired-token"))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .hasMessageContaining("expired");
+        verify(refreshTokenRepository, never()).markUsed(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown refresh token")
+    void shouldRejectUnknownToken() {
+        // Given
+        when(refreshTokenRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown-token"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ebanking.unit.security;
+
+import com.ebanking.security.TokenBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenBucket Unit Tests")
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("Should allow a full burst and then reject")
+    void shouldAllowFullBurstThenReject() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, Duration.ofMinutes(1));
+        long now = System.nanoTime();
+
+        // When & Then
+        assertThat(bucket.tryConsume(now)).isTrue();
+        assertThat(bucket.tryConsume(now)).isTrue();
+        assertThat(bucket.tryConsume(now)).isTrue();
+        assertThat(bucket.tryConsume(now)).isFalse();
+        assertThat(bucket.timeUntilNextToken()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should refill one token per emission interval")
+    void shouldRefillOneTokenPerEmissionInterval() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2));
+        long now = System.nanoTime();
+        bucket.tryConsume(now);
+        bucket.tryConsume(now);
+
+        // When & Then
+        assertThat(bucket.tryConsume(now + TimeUnit.MILLISECONDS.toNanos(500))).isFalse();
+        assertThat(bucket.tryConsume(now + TimeUnit.SECONDS.toNanos(1))).isTrue();
+        assertThat(bucket.tryConsume(now + TimeUnit.SECONDS.toNanos(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not hand out more tokens than capacity under contention")
+    void shouldNotExceedCapacityUnderContention() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, Duration.ofHours(1));
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    if (bucket.tryConsume()) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(granted.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should reject a capacity below one")
+    void shouldRejectCapacityBelowOne() {
+        // When & Then
+        assertThatThrownBy(() -> new TokenBucket(0, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
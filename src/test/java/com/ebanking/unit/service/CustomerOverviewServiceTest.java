@@ -0,0 +1,132 @@
+package com.ebanking.unit.service;
+
+import com.ebanking.domain.Account;
+import com.ebanking.dto.CustomerOverviewDto;
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.repository.AccountRepository;
+import com.ebanking.repository.TransactionRepository;
+import com.ebanking.service.CustomerOverviewService;
+import com.ebanking.service.ExchangeRateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerOverviewService Unit Tests")
+class CustomerOverviewServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerOverviewService customerOverviewService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        customerOverviewService = new CustomerOverviewService(accountRepository, transactionRepository,
+                exchangeRateService, meterRegistry, 4, 100, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should convert, total and merge the transactions of all accounts by value date")
+    void shouldMergeAccounts() {
+        // Given
+        when(accountRepository.findByCustomer_Id("c1")).thenReturn(List.of(
+                account("EUR1", "EUR"), account("GBP1", "GBP"), account("EUR2", "EUR")));
+        when(transactionRepository.findResponseDtosByAccountIban("EUR1")).thenReturn(List.of(
+                transaction("t3", "EUR1", "EUR", "100.00", 3)));
+        when(transactionRepository.findResponseDtosByAccountIban("GBP1")).thenReturn(List.of(
+                transaction("t2", "GBP1", "GBP", "-20.00", 2),
+                transaction("t4", "GBP1", "GBP", "5.00", 4)));
+        when(transactionRepository.findResponseDtosByAccountIban("EUR2")).thenReturn(List.of(
+                transaction("t1", "EUR2", "EUR", "-10.00", 1)));
+        when(exchangeRateService.getRate(eq("EUR"), eq("GBP"), any())).thenReturn(new BigDecimal("0.86"));
+        when(exchangeRateService.getRate(eq("GBP"), eq("GBP"), any())).thenReturn(BigDecimal.ONE);
+
+        // When
+        CustomerOverviewDto overview = customerOverviewService.getOverview("c1", "GBP").overview();
+
+        // Then
+        assertThat(overview.getTransactions())
+                .extracting(TransactionResponseDto::getId, TransactionResponseDto::getAmount, TransactionResponseDto::getCurrency)
+                .containsExactly(
+                        tuple("t1", new BigDecimal("-8.60"), "GBP"),
+                        tuple("t2", new BigDecimal("-20.00"), "GBP"),
+                        tuple("t3", new BigDecimal("86.00"), "GBP"),
+                        tuple("t4", new BigDecimal("5.00"), "GBP"));
+        assertThat(overview.getAccounts())
+                .extracting(CustomerOverviewDto.AccountOverview::getIban, CustomerOverviewDto.AccountOverview::getBalance,
+                        CustomerOverviewDto.AccountOverview::getConvertedBalance)
+                .containsExactly(
+                        tuple("EUR1", new BigDecimal("100.00"), new BigDecimal("86.00")),
+                        tuple("GBP1", new BigDecimal("-15.00"), new BigDecimal("-15.00")),
+                        tuple("EUR2", new BigDecimal("-10.00"), new BigDecimal("-8.60")));
+        assertThat(overview.getTotalDebit()).isEqualByComparingTo("28.60");
+        assertThat(overview.getTotalCredit()).isEqualByComparingTo("91.00");
+        verify(exchangeRateService, times(1)).getRate(eq("EUR"), eq("GBP"), any());
+    }
+
+    @Test
+    @DisplayName("Should report and record the time spent per stage")
+    void shouldRecordStageTimings() {
+        // Given
+        when(accountRepository.findByCustomer_Id("c1")).thenReturn(List.of(account("EUR1", "EUR")));
+        when(transactionRepository.findResponseDtosByAccountIban("EUR1")).thenReturn(List.of());
+        when(exchangeRateService.getRate(eq("EUR"), eq("GBP"), any())).thenReturn(new BigDecimal("0.86"));
+
+        // When
+        CustomerOverviewService.Overview result = customerOverviewService.getOverview("c1", "GBP");
+
+        // Then
+        assertThat(result.stageNanos()).containsOnlyKeys("accounts", "rates", "transactions", "merge", "total");
+        assertThat(meterRegistry.get("transactions.overview").tag("stage", "total").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("transactions.overview").tag("stage", "account_query").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow a failed account query")
+    void shouldRethrowFailedQuery() {
+        // Given
+        when(accountRepository.findByCustomer_Id("c1")).thenReturn(List.of(account("EUR1", "EUR")));
+        when(transactionRepository.findResponseDtosByAccountIban("EUR1")).thenThrow(new IllegalStateException("db down"));
+        when(exchangeRateService.getRate(eq("EUR"), eq("GBP"), any())).thenReturn(new BigDecimal("0.86"));
+
+        // When & Then
+        assertThatThrownBy(() -> customerOverviewService.getOverview("c1", "GBP"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+    }
+
+    private static Account account(String iban, String currency) {
+        return Account.builder().iban(iban).currency(currency).build();
+    }
+
+    private static TransactionResponseDto transaction(String id, String iban, String currency, String amount, int day) {
+        return new TransactionResponseDto(id, iban, currency, new BigDecimal(amount), "test", LocalDate.of(2024, 1, day));
+    }
+}
@@ -8,15 +8,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -312,4 +321,78 @@ class ExchangeRateServiceTest {
         // Assert
         assertEquals(new BigDecimal("0.01"), result); // Rounded to 2 decimal places
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("convertToBaseCurrencyAsync - Should convert with a rate fetched by the WebClient and cache it")
+    void convertToBaseCurrencyAsync_ValidConversion_ReturnsConvertedAmount() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    calls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"rates\":{\"GBP\":0.79}}")
+                            .build());
+                })
+                .build();
+        ReflectionTestUtils.setField(exchangeRateService, "exchangeRateWebClient", webClient);
+        LocalDate date = LocalDate.now();
+
+        // Act & Assert
+        StepVerifier.create(exchangeRateService.convertToBaseCurrencyAsync(new BigDecimal("100.00"), "USD", "GBP", date))
+                .expectNext(new BigDecimal("79.00"))
+                .verifyComplete();
+        StepVerifier.create(exchangeRateService.convertToBaseCurrencyAsync(new BigDecimal("10.00"), "USD", "GBP", date))
+                .expectNext(new BigDecimal("7.90"))
+                .verifyComplete();
+        assertEquals(1, calls.get());
+        verify(restTemplate, never()).getForObject(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("convertToBaseCurrencyAsync - API error should fall back to mock rate")
+    void convertToBaseCurrencyAsync_ApiError_UsesMockRate() {
+        // Arrange
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()))
+                .build();
+        ReflectionTestUtils.setField(exchangeRateService, "exchangeRateWebClient", webClient);
+
+        // Act & Assert
+        StepVerifier.create(exchangeRateService.convertToBaseCurrencyAsync(
+                        new BigDecimal("100.00"), "USD", "GBP", LocalDate.now()))
+                .expectNext(new BigDecimal("79.00"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("getRates - Should call the API once per source currency across dates")
+    void getRates_SeveralDates_OneApiCallPerCurrency() {
+        // Arrange
+        LocalDate date1 = LocalDate.of(2024, 1, 1);
+        LocalDate date2 = LocalDate.of(2024, 1, 2);
+        Map<String, Object> apiResponse = new HashMap<>();
+        Map<String, Object> rates = new HashMap<>();
+        rates.put("GBP", 0.79);
+        apiResponse.put("rates", rates);
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenReturn(apiResponse);
+
+        // Act
+        Map<ExchangeRateService.RateKey, BigDecimal> result = exchangeRateService.getRates(List.of(
+                new ExchangeRateService.RateKey("USD", date1),
+                new ExchangeRateService.RateKey("USD", date2),
+                new ExchangeRateService.RateKey("GBP", date1)), "GBP");
+
+        // Assert
+        assertEquals(new BigDecimal("0.79"), result.get(new ExchangeRateService.RateKey("USD", date1)));
+        assertEquals(new BigDecimal("0.79"), result.get(new ExchangeRateService.RateKey("USD", date2)));
+        assertEquals(BigDecimal.ONE, result.get(new ExchangeRateService.RateKey("GBP", date1)));
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+
+        // Rates are cached per date for later single lookups
+        assertEquals(new BigDecimal("79.00"),
+                exchangeRateService.convertToBaseCurrency(new BigDecimal("100.00"), "USD", "GBP", date2));
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(Map.class));
+    }
+}
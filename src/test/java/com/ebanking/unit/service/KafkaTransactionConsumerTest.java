@@ -1,4 +1,158 @@
 package com.ebanking.unit.service;
 
+import com.ebanking.domain.Account;
+import com.ebanking.domain.Customer;
+import com.ebanking.domain.Transaction;
+import com.ebanking.dto.TransactionKafkaDto;
+import com.ebanking.repository.AccountRepository;
+import com.ebanking.repository.TransactionRepository;
+import com.ebanking.service.KafkaTransactionConsumer;
+import com.ebanking.service.StatementResponseCache;
+import com.ebanking.service.TransactionIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KafkaTransactionConsumer Unit Tests")
 public class KafkaTransactionConsumerTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionIdGenerator transactionIdGenerator;
+
+    @Mock
+    private StatementResponseCache statementResponseCache;
+
+    @InjectMocks
+    private KafkaTransactionConsumer kafkaTransactionConsumer;
+
+    private TransactionKafkaDto dto;
+
+    @BeforeEach
+    void setUp() {
+        dto = new TransactionKafkaDto();
+        dto.setId("0190b2a4-7c1e-7000-8000-000000000001");
+        dto.setAccountIban("12345");
+        dto.setAmount(BigDecimal.valueOf(100.00));
+        dto.setValueDate(LocalDate.now());
+        dto.setDescription("Kafka transaction");
+    }
+
+    @Test
+    @DisplayName("Should save a new transaction with the account currency")
+    void shouldSaveNewTransaction() {
+        // Given
+        Account account = Account.builder().iban("12345").currency("MYR").build();
+        when(accountRepository.findByIbanForWrite("12345")).thenReturn(Optional.of(account));
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+        // When
+        kafkaTransactionConsumer.consume(dto);
+
+        // Then
+        verify(transactionRepository).save(captor.capture());
+        verify(transactionIdGenerator, never()).nextId();
+        assertThat(captor.getValue().getId()).isEqualTo(dto.getId());
+        assertThat(captor.getValue().getCurrency()).isEqualTo("MYR");
+        assertThat(captor.getValue().isNew()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should generate an id when the message has none")
+    void shouldGenerateIdWhenMessageHasNone() {
+        // Given
+        dto.setId(null);
+        Account account = Account.builder().iban("12345").currency("MYR").build();
+        when(accountRepository.findByIbanForWrite("12345")).thenReturn(Optional.of(account));
+        when(transactionIdGenerator.nextId()).thenReturn("0190b2a4-7c1e-7000-8000-000000000002");
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+        // When
+        kafkaTransactionConsumer.consume(dto);
+
+        // Then
+        verify(transactionRepository).save(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo("0190b2a4-7c1e-7000-8000-000000000002");
+    }
+
+    @Test
+    @DisplayName("Should evict the cached responses of a back-dated transaction's month")
+    void shouldEvictCachedResponsesOfValueDateMonth() {
+        // Given
+        dto.setValueDate(LocalDate.of(2024, 1, 31));
+        Account account = Account.builder().iban("12345").currency("MYR")
+                .customer(Customer.builder().id("sherry").build()).build();
+        when(accountRepository.findByIbanForWrite("12345")).thenReturn(Optional.of(account));
+
+        // When
+        kafkaTransactionConsumer.consume(dto);
+
+        // Then
+        verify(statementResponseCache).evict("12345", "sherry", YearMonth.of(2024, 1));
+    }
+
+    @Test
+    @DisplayName("Should skip a redelivered transaction that already exists")
+    void shouldSkipRedeliveredTransaction() {
+        // Given
+        Account account = Account.builder().iban("12345").currency("MYR").build();
+        when(accountRepository.findByIbanForWrite("12345")).thenReturn(Optional.of(account));
+        when(transactionRepository.save(any(Transaction.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key",
+                        new SQLException("duplicate key value violates unique constraint", "23505")));
+
+        // When & Then
+        assertThatCode(() -> kafkaTransactionConsumer.consume(dto)).doesNotThrowAnyException();
+        verify(statementResponseCache, never()).evict(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations other than a duplicate key")
+    void shouldRethrowOtherIntegrityViolations() {
+        // Given
+        Account account = Account.builder().iban("12345").currency("MYR").build();
+        when(accountRepository.findByIbanForWrite("12345")).thenReturn(Optional.of(account));
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("no partition",
+                new SQLException("no partition of relation \"transactions\" found for row", "23514"));
+        when(transactionRepository.save(any(Transaction.class))).thenThrow(violation);
+
+        // When & Then
+        assertThatThrownBy(() -> kafkaTransactionConsumer.consume(dto)).isSameAs(violation);
+        verify(statementResponseCache, never()).evict(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not save when the account does not exist")
+    void shouldNotSaveWhenAccountDoesNotExist() {
+        // Given
+        when(accountRepository.findByIbanForWrite("12345")).thenReturn(Optional.empty());
+
+        // When
+        kafkaTransactionConsumer.consume(dto);
+
+        // Then
+        verify(transactionRepository, never()).save(any());
+    }
 }
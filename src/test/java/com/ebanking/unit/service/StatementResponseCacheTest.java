@@ -0,0 +1,163 @@
+package com.ebanking.unit.service;
+
+import com.ebanking.service.StatementResponseCache;
+import com.ebanking.service.StatementResponseCache.Key;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementResponseCache Unit Tests")
+class StatementResponseCacheTest {
+
+    private static final YearMonth CLOSED = YearMonth.of(2024, 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger builds = new AtomicInteger();
+    private StatementResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache(false);
+    }
+
+    @Test
+    @DisplayName("Should serve a closed month from the cache with the same bytes as Jackson")
+    void shouldCacheClosedMonth() throws Exception {
+        // Given
+        Key key = Key.account("GB01", CLOSED);
+
+        // When
+        ResponseEntity<byte[]> first = cache.respond(key, request(), body("a"));
+        ResponseEntity<byte[]> second = cache.respond(key, request(), body("b"));
+
+        // Then
+        assertThat(builds).hasValue(1);
+        assertThat(second.getBody()).isEqualTo(first.getBody())
+                .isEqualTo(objectMapper.writeValueAsBytes(Map.of("id", "a")));
+        assertThat(second.getHeaders().getETag()).startsWith("W/\"").isEqualTo(first.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should not store the current month")
+    void shouldNotCacheCurrentMonth() {
+        // Given
+        Key key = Key.account("GB01", YearMonth.now());
+
+        // When
+        cache.respond(key, request(), body("a"));
+        ResponseEntity<byte[]> second = cache.respond(key, request(), body("b"));
+
+        // Then
+        assertThat(builds).hasValue(2);
+        assertThat(new String(second.getBody())).isEqualTo("{\"id\":\"b\"}");
+        assertThat(second.getHeaders().getETag()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 and no body")
+    void shouldReturnNotModified() {
+        // Given
+        Key key = Key.account("GB01", CLOSED);
+        String etag = cache.respond(key, request(), body("a")).getHeaders().getETag();
+
+        // When
+        ResponseEntity<byte[]> matching = cache.respond(key, request(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag), body("a"));
+        ResponseEntity<byte[]> strong = cache.respond(key, request(HttpHeaders.IF_NONE_MATCH, etag.substring(2)), body("a"));
+        ResponseEntity<byte[]> stale = cache.respond(key, request(HttpHeaders.IF_NONE_MATCH, "W/\"other\""), body("a"));
+
+        // Then
+        assertThat(matching.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(matching.getBody()).isNull();
+        assertThat(matching.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(strong.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("Should store gzip and send it only to clients that accept it")
+    void shouldServeGzip() throws IOException {
+        // Given
+        cache = newCache(true);
+        Key key = Key.account("GB01", CLOSED);
+
+        // When
+        ResponseEntity<byte[]> gzipped = cache.respond(key, request(HttpHeaders.ACCEPT_ENCODING, "br, gzip"), body("a"));
+        ResponseEntity<byte[]> identity = cache.respond(key, request(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"), body("a"));
+
+        // Then
+        assertThat(builds).hasValue(1);
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody())).readAllBytes())
+                .isEqualTo(identity.getBody());
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(new String(identity.getBody())).isEqualTo("{\"id\":\"a\"}");
+    }
+
+    @Test
+    @DisplayName("Should evict the account's responses and its customer's statements for the month only")
+    void shouldEvictAccountMonth() {
+        // Given
+        List<Key> keys = List.of(
+                Key.account("GB01", CLOSED),
+                Key.accountForCustomer("GB01", "c1", CLOSED),
+                Key.statement("c1", CLOSED, "GBP"),
+                Key.account("GB01", CLOSED.minusMonths(1)),
+                Key.account("GB02", CLOSED),
+                Key.statement("c2", CLOSED, "GBP"));
+        keys.forEach(key -> cache.respond(key, request(), body("a")));
+        builds.set(0);
+
+        // When
+        cache.evict("GB01", "c1", CLOSED);
+        keys.forEach(key -> cache.respond(key, request(), body("a")));
+
+        // Then
+        assertThat(builds).hasValue(3);
+    }
+
+    private StatementResponseCache newCache(boolean gzip) {
+        return new StatementResponseCache(objectMapper, TransactionOperations.withoutTransaction(),
+                new SimpleMeterRegistry(), true,
+                DataSize.ofMegabytes(1), Duration.ofHours(1), gzip);
+    }
+
+    private Supplier<Object> body(String id) {
+        return () -> {
+            builds.incrementAndGet();
+            return Map.of("id", id);
+        };
+    }
+
+    private static WebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest());
+    }
+
+    private static WebRequest request(String header, String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(header, value);
+        return new ServletWebRequest(request);
+    }
+}
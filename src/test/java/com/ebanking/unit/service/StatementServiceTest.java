@@ -0,0 +1,133 @@
+package com.ebanking.unit.service;
+
+import com.ebanking.dto.StatementDto;
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.repository.TransactionRepository;
+import com.ebanking.service.ExchangeRateService;
+import com.ebanking.service.ExchangeRateService.RateKey;
+import com.ebanking.service.StatementService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatementService Unit Tests")
+class StatementServiceTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate JAN_2 = LocalDate.of(2024, 1, 2);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatementService statementService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statementService = new StatementService(transactionRepository, exchangeRateService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should resolve each (currency, value date) once and total converted amounts")
+    void shouldConvertWithBatchedRates() {
+        // Given
+        when(transactionRepository.findResponseDtosByCustomerIdAndValueDateRange(
+                "c1", JAN_1, LocalDate.of(2024, 2, 1)))
+                .thenReturn(List.of(
+                        transaction("t1", "EUR", "100.00", JAN_1),
+                        transaction("t2", "EUR", "-10.00", JAN_1),
+                        transaction("t3", "EUR", "-20.00", JAN_2),
+                        transaction("t4", "GBP", "5.00", JAN_2)));
+        when(exchangeRateService.getRates(any(), eq("GBP"))).thenReturn(Map.of(
+                new RateKey("EUR", JAN_1), new BigDecimal("0.86"),
+                new RateKey("EUR", JAN_2), new BigDecimal("0.87"),
+                new RateKey("GBP", JAN_2), BigDecimal.ONE));
+
+        // When
+        StatementDto statement = statementService.getStatement("c1", JANUARY, "GBP");
+
+        // Then
+        assertThat(statement.getEntries())
+                .extracting(StatementDto.Entry::getId, StatementDto.Entry::getExchangeRate,
+                        StatementDto.Entry::getConvertedAmount)
+                .containsExactly(
+                        tuple("t1", new BigDecimal("0.86"), new BigDecimal("86.00")),
+                        tuple("t2", new BigDecimal("0.86"), new BigDecimal("-8.60")),
+                        tuple("t3", new BigDecimal("0.87"), new BigDecimal("-17.40")),
+                        tuple("t4", BigDecimal.ONE, new BigDecimal("5.00")));
+        assertThat(statement.getTotalCredit()).isEqualTo(new BigDecimal("91.00"));
+        assertThat(statement.getTotalDebit()).isEqualTo(new BigDecimal("26.00"));
+        verify(exchangeRateService, times(1)).getRates(eq(Set.of(
+                new RateKey("EUR", JAN_1), new RateKey("EUR", JAN_2), new RateKey("GBP", JAN_2))), eq("GBP"));
+        assertThat(meterRegistry.get("transactions.statement").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should round to the minor unit of the base currency")
+    void shouldRoundToBaseCurrencyMinorUnit() {
+        // Given
+        when(transactionRepository.findResponseDtosByCustomerIdAndValueDateRange(any(), any(), any()))
+                .thenReturn(List.of(
+                        transaction("t1", "EUR", "10.00", JAN_1),
+                        transaction("t2", "EUR", "-0.01", JAN_1)));
+        when(exchangeRateService.getRates(any(), eq("JPY")))
+                .thenReturn(Map.of(new RateKey("EUR", JAN_1), new BigDecimal("161.37")));
+
+        // When
+        StatementDto statement = statementService.getStatement("c1", JANUARY, "JPY");
+
+        // Then
+        assertThat(statement.getEntries())
+                .extracting(StatementDto.Entry::getConvertedAmount)
+                .containsExactly(new BigDecimal("1614"), new BigDecimal("-2"));
+        assertThat(statement.getTotalCredit()).isEqualTo(new BigDecimal("1614"));
+        assertThat(statement.getTotalDebit()).isEqualTo(new BigDecimal("2"));
+    }
+
+    @Test
+    @DisplayName("Should return an empty statement for a month without transactions")
+    void shouldReturnEmptyStatement() {
+        // Given
+        when(transactionRepository.findResponseDtosByCustomerIdAndValueDateRange(any(), any(), any()))
+                .thenReturn(List.of());
+        when(exchangeRateService.getRates(any(), eq("GBP"))).thenReturn(Map.of());
+
+        // When
+        StatementDto statement = statementService.getStatement("c1", JANUARY, "GBP");
+
+        // Then
+        assertThat(statement.getMonth()).isEqualTo(JANUARY);
+        assertThat(statement.getEntries()).isEmpty();
+        assertThat(statement.getTotalCredit()).isEqualTo(new BigDecimal("0.00"));
+        assertThat(statement.getTotalDebit()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    private static TransactionResponseDto transaction(String id, String currency, String amount, LocalDate valueDate) {
+        return new TransactionResponseDto(id, "GB01", currency, new BigDecimal(amount), "test", valueDate);
+    }
+}
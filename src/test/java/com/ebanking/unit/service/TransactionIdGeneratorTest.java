@@ -0,0 +1,82 @@
+package com.ebanking.unit.service;
+
+import com.ebanking.service.TransactionIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TransactionIdGenerator Unit Tests")
+class TransactionIdGeneratorTest {
+
+    // Same pattern as the @Pattern constraint on Transaction.id
+    private static final String TRANSACTION_ID_PATTERN =
+            "^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$";
+
+    private final TransactionIdGenerator generator = new TransactionIdGenerator();
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs accepted by the Transaction id constraint")
+    void shouldGenerateValidVersion7Uuids() {
+        // When
+        String id = generator.nextId();
+        UUID uuid = UUID.fromString(id);
+
+        // Then
+        assertThat(id).hasSize(36).matches(TRANSACTION_ID_PATTERN);
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16)
+                .isCloseTo(System.currentTimeMillis(), within(1000L));
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing ids within a thread")
+    void shouldGenerateIncreasingIdsWithinThread() {
+        // Given
+        String previous = generator.nextId();
+
+        // When & Then
+        for (int i = 0; i < 100_000; i++) {
+            String next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate unique ids across threads")
+    void shouldGenerateUniqueIdsAcrossThreads() throws Exception {
+        // Given
+        int threads = 16;
+        int perThread = 10_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
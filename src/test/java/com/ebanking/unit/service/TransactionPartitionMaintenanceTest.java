@@ -0,0 +1,181 @@
+package com.ebanking.unit.service;
+
+import com.ebanking.service.TransactionPartitionMaintenance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionPartitionMaintenance Unit Tests")
+class TransactionPartitionMaintenanceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        maintenance = new TransactionPartitionMaintenance(jdbcTemplate, TransactionOperations.withoutTransaction(), 2, 12);
+        lenient().when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should create the current month and the months ahead")
+    void shouldCreatePartitionsAhead() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+
+        // When
+        maintenance.maintain(YearMonth.of(2024, 11));
+
+        // Then
+        verify(jdbcTemplate).execute("create table if not exists transactions_2024_11 partition of transactions "
+                + "for values from ('2024-11-01') to ('2024-12-01')");
+        verify(jdbcTemplate).execute("create table if not exists transactions_2024_12 partition of transactions "
+                + "for values from ('2024-12-01') to ('2025-01-01')");
+        verify(jdbcTemplate).execute("create table if not exists transactions_2025_01 partition of transactions "
+                + "for values from ('2025-01-01') to ('2025-02-01')");
+        verify(jdbcTemplate, never()).execute(contains("detach"));
+    }
+
+    @Test
+    @DisplayName("Should move rows out of the default partition when their month's partition is created")
+    void shouldMoveRowsOutOfDefaultPartition() {
+        // Given
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 2, 1);
+        when(jdbcTemplate.queryForObject(contains("from transactions_default where"), eq(Integer.class), any(), any()))
+                .thenReturn(0);
+        when(jdbcTemplate.queryForObject(contains("from transactions_default where"), eq(Integer.class), eq(from), eq(to)))
+                .thenReturn(4);
+
+        // When
+        maintenance.maintain(YearMonth.of(2024, 11));
+
+        // Then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("alter table transactions detach partition transactions_default");
+        inOrder.verify(jdbcTemplate).execute("create table if not exists transactions_2025_01 partition of transactions "
+                + "for values from ('2025-01-01') to ('2025-02-01')");
+        inOrder.verify(jdbcTemplate).update(contains("insert into transactions select * from transactions_default"),
+                eq(from), eq(to));
+        inOrder.verify(jdbcTemplate).update(contains("delete from transactions_default"), eq(from), eq(to));
+        inOrder.verify(jdbcTemplate).execute("alter table transactions attach partition transactions_default default");
+        verify(jdbcTemplate, times(1)).execute(contains("detach partition transactions_default"));
+    }
+
+    @Test
+    @DisplayName("Should detach and rename partitions older than the retention period")
+    void shouldDetachExpiredPartitions() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("transactions_2023_10", "transactions_2023_11", "transactions_2024_11"));
+
+        // When
+        maintenance.maintain(YearMonth.of(2024, 11));
+
+        // Then
+        verify(jdbcTemplate).execute("alter table transactions detach partition transactions_2023_10");
+        verify(jdbcTemplate).execute("alter table transactions_2023_10 rename to transactions_archive_2023_10");
+        verify(jdbcTemplate, never()).execute("alter table transactions detach partition transactions_2023_11");
+        verify(jdbcTemplate, never()).execute("alter table transactions detach partition transactions_2024_11");
+    }
+
+    @Test
+    @DisplayName("Should ignore partitions that do not follow the monthly naming")
+    void shouldIgnoreUnknownPartitions() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("transactions_default"));
+
+        // When
+        maintenance.maintain(YearMonth.of(2024, 11));
+
+        // Then
+        verify(jdbcTemplate, never()).execute(contains("detach"));
+    }
+
+    @Test
+    @DisplayName("Should never detach when retention is disabled")
+    void shouldNotDetachWhenRetentionDisabled() {
+        // Given
+        maintenance = new TransactionPartitionMaintenance(jdbcTemplate, TransactionOperations.withoutTransaction(), 0, 0);
+
+        // When
+        maintenance.maintain(YearMonth.of(2024, 11));
+
+        // Then
+        verify(jdbcTemplate).execute(contains("transactions_2024_11 partition of"));
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the run while another instance holds the maintenance lock")
+    void shouldSkipWhenLockIsHeld() {
+        // Given
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .thenReturn(false);
+
+        // When
+        boolean ran = maintenance.maintain(YearMonth.of(2024, 11));
+
+        // Then
+        assertThat(ran).isFalse();
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class));
+    }
+
+    @Test
+    @DisplayName("Should roll back the detach when the archive rename fails")
+    void shouldRollBackDetachWhenRenameFails() {
+        // Given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        maintenance = new TransactionPartitionMaintenance(jdbcTemplate, new TransactionTemplate(transactionManager), 0, 12);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of("transactions_2023_10"));
+        lenient().doThrow(new IllegalStateException("rename failed"))
+                .when(jdbcTemplate).execute("alter table transactions_2023_10 rename to transactions_archive_2023_10");
+
+        // When & Then
+        assertThatThrownBy(() -> maintenance.maintain(YearMonth.of(2024, 11)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(jdbcTemplate).execute("alter table transactions detach partition transactions_2023_10");
+        verify(transactionManager, atLeastOnce()).rollback(status);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should not fail the application startup when the maintenance fails")
+    void shouldNotFailStartup() {
+        // Given
+        when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        // When & Then
+        assertThatCode(() -> maintenance.maintainOnStartup()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,115 @@
+package com.ebanking.unit.service;
+
+import com.ebanking.dto.TransactionResponseDto;
+import com.ebanking.repository.TransactionRepository;
+import com.ebanking.service.ExchangeRateService;
+import com.ebanking.service.TransactionStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionStreamService Unit Tests")
+class TransactionStreamServiceTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate JAN_2 = LocalDate.of(2024, 1, 2);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    private TransactionStreamService transactionStreamService;
+
+    @BeforeEach
+    void setUp() {
+        transactionStreamService = new TransactionStreamService(
+                transactionRepository, exchangeRateService, Schedulers.immediate(), 2);
+    }
+
+    @Test
+    @DisplayName("Should read keyset pages until a page is short")
+    void shouldReadKeysetPages() {
+        // Given
+        TransactionResponseDto t1 = transaction("t1", JAN_1);
+        TransactionResponseDto t2 = transaction("t2", JAN_1);
+        TransactionResponseDto t3 = transaction("t3", JAN_2);
+        when(transactionRepository.findResponseDtosByCustomerIdAfter("c1", FIRST_DATE, "", PageRequest.ofSize(2)))
+                .thenReturn(List.of(t1, t2));
+        when(transactionRepository.findResponseDtosByCustomerIdAfter("c1", JAN_1, "t2", PageRequest.ofSize(2)))
+                .thenReturn(List.of(t3));
+
+        // When & Then
+        StepVerifier.create(transactionStreamService.streamTransactionsByCustomer("c1"))
+                .expectNext(t1, t2, t3)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read at most one page ahead of the subscriber")
+    void shouldReadAtMostOnePageAhead() {
+        // Given
+        TransactionResponseDto t1 = transaction("t1", JAN_1);
+        TransactionResponseDto t2 = transaction("t2", JAN_1);
+        TransactionResponseDto t3 = transaction("t3", JAN_2);
+        TransactionResponseDto t4 = transaction("t4", JAN_2);
+        when(transactionRepository.findResponseDtosByAccountIbanAndCustomerIdAfter(
+                "GB01", "c1", FIRST_DATE, "", PageRequest.ofSize(2)))
+                .thenReturn(List.of(t1, t2));
+        lenient().when(transactionRepository.findResponseDtosByAccountIbanAndCustomerIdAfter(
+                "GB01", "c1", JAN_1, "t2", PageRequest.ofSize(2)))
+                .thenReturn(List.of(t3, t4));
+
+        // When & Then
+        StepVerifier.create(transactionStreamService.streamTransactionsByAccountForCustomer("GB01", "c1"), 1)
+                .expectNext(t1)
+                .thenCancel()
+                .verify();
+        verify(transactionRepository, never()).findResponseDtosByAccountIbanAndCustomerIdAfter(
+                eq("GB01"), eq("c1"), eq(JAN_2), eq("t4"), any());
+    }
+
+    @Test
+    @DisplayName("Should convert amounts and currency in stream order")
+    void shouldConvertInOrder() {
+        // Given
+        TransactionResponseDto t1 = transaction("t1", JAN_1);
+        TransactionResponseDto t2 = transaction("t2", JAN_2);
+        when(exchangeRateService.convertToBaseCurrencyAsync(new BigDecimal("10.00"), "EUR", "GBP", JAN_1))
+                .thenReturn(Mono.just(new BigDecimal("8.60")));
+        when(exchangeRateService.convertToBaseCurrencyAsync(new BigDecimal("10.00"), "EUR", "GBP", JAN_2))
+                .thenReturn(Mono.just(new BigDecimal("8.70")));
+
+        // When & Then
+        StepVerifier.create(transactionStreamService.convertTo(Flux.just(t1, t2), "GBP"))
+                .expectNext(new TransactionResponseDto("t1", "GB01", "GBP", new BigDecimal("8.60"), "test", JAN_1))
+                .expectNext(new TransactionResponseDto("t2", "GB01", "GBP", new BigDecimal("8.70"), "test", JAN_2))
+                .verifyComplete();
+    }
+
+    private static TransactionResponseDto transaction(String id, LocalDate valueDate) {
+        return new TransactionResponseDto(id, "GB01", "EUR", new BigDecimal("10.00"), "test", valueDate);
+    }
+}
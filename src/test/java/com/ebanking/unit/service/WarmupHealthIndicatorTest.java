@@ -0,0 +1,69 @@
+package com.ebanking.unit.service;
+
+import com.ebanking.service.WarmupHealthIndicator;
+import com.ebanking.service.WarmupRunner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmupHealthIndicator Unit Tests")
+class WarmupHealthIndicatorTest {
+
+    @Mock
+    private WarmupRunner warmupRunner;
+
+    @Test
+    @DisplayName("Should be out of service while the warm-up runs")
+    void shouldBeOutOfServiceWhileRunning() {
+        // Given
+        when(warmupRunner.isEnabled()).thenReturn(true);
+        when(warmupRunner.getReport()).thenReturn(null);
+
+        // When
+        Health health = new WarmupHealthIndicator(warmupRunner).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    @DisplayName("Should be up with the timings per path once the warm-up has finished")
+    void shouldBeUpWhenFinished() {
+        // Given
+        Map<String, WarmupRunner.PathReport> paths = Map.of("token", new WarmupRunner.PathReport(10, 40.0, 0.2, null));
+        when(warmupRunner.isEnabled()).thenReturn(true);
+        when(warmupRunner.getReport()).thenReturn(new WarmupRunner.Report(Duration.ofMillis(1500), paths));
+
+        // When
+        Health health = new WarmupHealthIndicator(warmupRunner).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("durationMs", 1500L).containsEntry("paths", paths);
+    }
+
+    @Test
+    @DisplayName("Should be up when the warm-up is disabled")
+    void shouldBeUpWhenDisabled() {
+        // Given
+        when(warmupRunner.isEnabled()).thenReturn(false);
+
+        // When
+        Health health = new WarmupHealthIndicator(warmupRunner).health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("enabled", false);
+    }
+}
@@ -0,0 +1,152 @@
+package com.ebanking.unit.service;
+
+import com.ebanking.dto.StatementDto;
+import com.ebanking.dto.TransactionKafkaDto;
+import com.ebanking.repository.AccountRepository;
+import com.ebanking.security.JwtService;
+import com.ebanking.service.ExchangeRateService;
+import com.ebanking.service.StatementService;
+import com.ebanking.service.TransactionService;
+import com.ebanking.service.WarmupRunner;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmupRunner Unit Tests")
+class WarmupRunnerTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private StatementService statementService;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private ConsumerFactory<String, TransactionKafkaDto> consumerFactory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Not every test reaches every path
+        lenient().when(jwtService.generateToken("warmup")).thenReturn("token");
+        lenient().when(jwtService.extractCustomerId("token")).thenReturn("warmup");
+        lenient().when(jwtService.isTokenValid(eq("token"), any())).thenReturn(true);
+        lenient().when(accountRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+        lenient().when(transactionService.getTransactionsByCustomer("warmup")).thenReturn(List.of());
+        lenient().when(transactionService.getTransactionsByAccountForCustomerAndMonth(anyString(), eq("warmup"), any()))
+                .thenReturn(List.of());
+        lenient().when(statementService.getStatement(eq("warmup"), any(), eq("GBP"))).thenReturn(new StatementDto());
+    }
+
+    @Test
+    @DisplayName("Should run every path for the configured iterations and load the accounts once")
+    void shouldRunEveryPath() {
+        // Given
+        WarmupRunner runner = runner(true, Duration.ofMinutes(1), 5);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        WarmupRunner.Report report = runner.getReport();
+        assertThat(report.paths()).containsOnlyKeys("accounts", "token", "transactions", "summary", "conversion", "kafka");
+        assertThat(report.paths().get("accounts").calls()).isEqualTo(1);
+        assertThat(report.paths().values()).filteredOn(path -> path != report.paths().get("accounts"))
+                .allSatisfy(path -> {
+                    assertThat(path.calls()).isEqualTo(5);
+                    assertThat(path.error()).isNull();
+                });
+        verify(exchangeRateService, times(5)).convertToBaseCurrency(any(BigDecimal.class), eq("EUR"), eq("GBP"), any());
+        verify(exchangeRateService, times(5)).convertToBaseCurrency(any(BigDecimal.class), eq("USD"), eq("GBP"), any());
+        assertThat(meterRegistry.get("warmup").tag("path", "kafka").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should drop and report a failing path and keep warming up the others")
+    void shouldSkipFailingPath() {
+        // Given
+        when(transactionService.getTransactionsByCustomer("warmup")).thenThrow(new IllegalStateException("db down"));
+        WarmupRunner runner = runner(true, Duration.ofMinutes(1), 3);
+
+        // When
+        WarmupRunner.Report report = runner.warmUp();
+
+        // Then
+        assertThat(report.paths().get("transactions").calls()).isZero();
+        assertThat(report.paths().get("transactions").error()).isEqualTo("IllegalStateException: db down");
+        assertThat(report.paths().get("token").calls()).isEqualTo(3);
+        verify(transactionService, times(1)).getTransactionsByCustomer("warmup");
+    }
+
+    @Test
+    @DisplayName("Should stop when the budget is spent")
+    void shouldStopAtBudget() {
+        // When
+        WarmupRunner.Report report = runner(true, Duration.ZERO, 1000).warmUp();
+
+        // Then
+        assertThat(report.paths().values()).allSatisfy(path -> assertThat(path.calls()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        WarmupRunner runner = runner(false, Duration.ofMinutes(1), 5);
+
+        // When
+        runner.run(new DefaultApplicationArguments());
+
+        // Then
+        assertThat(runner.getReport()).isNull();
+        verifyNoInteractions(jwtService, transactionService, exchangeRateService);
+    }
+
+    private WarmupRunner runner(boolean enabled, Duration budget, int iterations) {
+        JsonMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        return new WarmupRunner(jwtService, transactionService, statementService, exchangeRateService,
+                accountRepository, objectMapper, consumerFactory, meterRegistry, enabled, budget, iterations, 10,
+                List.of("EUR", "USD"), "GBP");
+    }
+}
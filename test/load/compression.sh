@@ -0,0 +1,77 @@
+#!/bin/bash
+
+# Bytes on the wire and latency of large transaction lists, with and without gzip,
+# over HTTP/1.1 and h2c.
+#
+# Seeds one account per size through the bulk import endpoint, then fetches
+# /api/v1/transactions/account/{iban} for each combination and prints the response size
+# and the median total time. Start the service with compression and HTTP/2 enabled (the
+# defaults), e.g.
+#
+#   java -jar target/transaction-service-1.0.0.jar
+#   ./test/load/compression.sh
+#
+# Set SERVER_COMPRESSION_ENABLED=false on the service to get the uncompressed baseline for
+# clients that ask for gzip. Requires curl built with HTTP/2 support.
+
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+SIZES="${SIZES:-1000 10000 100000}"
+RUNS="${RUNS:-5}"
+
+CUSTOMER_ID="compression-$(date +%s)"
+CREDENTIALS="{\"customerId\":\"${CUSTOMER_ID}\",\"password\":\"password123\"}"
+
+curl -sf -o /dev/null -X POST "${BASE_URL}/api/v1/auth/register" \
+    -H 'Content-Type: application/json' -d "${CREDENTIALS}"
+TOKEN=$(curl -sf -X POST "${BASE_URL}/api/v1/auth/login" \
+    -H 'Content-Type: application/json' -d "${CREDENTIALS}" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+if [ -z "${TOKEN}" ]; then
+    echo "Login failed" >&2
+    exit 1
+fi
+AUTH="Authorization: Bearer ${TOKEN}"
+
+seed() {
+    local iban=$1 rows=$2
+    curl -sf -o /dev/null -X POST "${BASE_URL}/api/v1/accounts?customerId=${CUSTOMER_ID}" \
+        -H "${AUTH}" -H 'Content-Type: application/json' -d "{\"iban\":\"${iban}\",\"currency\":\"EUR\"}"
+    awk -v iban="${iban}" -v rows="${rows}" 'BEGIN {
+        srand(42)
+        for (i = 0; i < rows; i++) {
+            printf "{\"accountIban\":\"%s\",\"amount\":%.2f,\"description\":\"Card payment %d\",\"valueDate\":\"2024-%02d-%02d\"}\n",
+                iban, (rand() - 0.5) * 2000, i, i % 12 + 1, i % 28 + 1
+        }
+    }' | curl -sf -o /dev/null -X POST "${BASE_URL}/api/v1/transactions/bulk" \
+        -H "${AUTH}" -H 'Content-Type: application/x-ndjson' --data-binary @-
+}
+
+# Prints "<bytes> <median seconds>" for one combination
+measure() {
+    local url=$1 protocol=$2 encoding=$3
+    local bytes=0 times=()
+    for _ in $(seq "${RUNS}"); do
+        read -r bytes time < <(curl -sf -o /dev/null "${protocol}" -H "${AUTH}" \
+            -H "Accept-Encoding: ${encoding}" -w '%{size_download} %{time_total}\n' "${url}")
+        times+=("${time}")
+    done
+    printf '%s\n' "${times[@]}" | sort -n | awk -v bytes="${bytes}" '{ t[NR] = $1 }
+        END { printf "%d %.3f\n", bytes, t[int((NR + 1) / 2)] }'
+}
+
+printf '%-8s %-9s %-9s %12s %10s\n' rows protocol encoding bytes median_s
+for rows in ${SIZES}; do
+    iban="CMP$(date +%s)${rows}"
+    seed "${iban}" "${rows}"
+    url="${BASE_URL}/api/v1/transactions/account/${iban}"
+    # Warm up the query and serialization paths before timing
+    curl -sf -o /dev/null -H "${AUTH}" "${url}"
+    for protocol in --http1.1 --http2-prior-knowledge; do
+        for encoding in identity gzip; do
+            read -r bytes median < <(measure "${url}" "${protocol}" "${encoding}")
+            label=$([ "${protocol}" = --http1.1 ] && echo http/1.1 || echo h2c)
+            printf '%-8s %-9s %-9s %12s %10s\n' "${rows}" "${label}" "${encoding}" "${bytes}" "${median}"
+        done
+    done
+done
@@ -0,0 +1,75 @@
+#!/bin/bash
+
+# Time to first request of the service, for comparing the plain jar with the fast-start
+# build (AOT and CDS, see Dockerfile.fast-start).
+#
+# Starts the given command RUNS times and for each run prints, in milliseconds from
+# launch: when the port first answers, when the first login and the first transaction
+# list succeed, and the startup time Spring logs. The first requests include whatever
+# was deferred from startup (lazy beans, connection pool warm-up, JIT). Examples:
+#
+#   ./test/load/startup.sh java -jar target/transaction-service-1.0.0.jar
+#   ./test/load/startup.sh java -Dspring.aot.enabled=true -jar target/transaction-service-1.0.0.jar \
+#       --spring.profiles.active=prod,fast-start
+#   ./test/load/startup.sh docker run --rm -p 8080:8080 -e DB_URL=... ebanking/transaction-service:fast-start
+#
+# The command must start the service in the foreground on BASE_URL with an empty
+# database reachable; the run is stopped after the first requests.
+
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+RUNS="${RUNS:-5}"
+TIMEOUT_S="${TIMEOUT_S:-120}"
+
+if [ $# -eq 0 ]; then
+    echo "Usage: $0 <command to start the service>" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Waits until the URL answers with any HTTP status
+wait_for_port() {
+    local deadline=$(( $(now_ms) + TIMEOUT_S * 1000 ))
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "${BASE_URL}/api/v1/auth/login")" != "000" ]; do
+        if [ "$(now_ms)" -gt "${deadline}" ]; then
+            echo "Service did not answer within ${TIMEOUT_S}s" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+}
+
+printf '%-4s %10s %10s %10s %12s\n' run port_ms login_ms list_ms spring_ms
+for run in $(seq "${RUNS}"); do
+    log=$(mktemp)
+    start=$(now_ms)
+    "$@" > "${log}" 2>&1 &
+    pid=$!
+
+    wait_for_port
+    port=$(( $(now_ms) - start ))
+
+    customer="startup-${start}"
+    credentials="{\"customerId\":\"${customer}\",\"password\":\"password123\"}"
+    curl -sf -o /dev/null -X POST "${BASE_URL}/api/v1/auth/register" \
+        -H 'Content-Type: application/json' -d "${credentials}"
+    token=$(curl -sf -X POST "${BASE_URL}/api/v1/auth/login" \
+        -H 'Content-Type: application/json' -d "${credentials}" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+    login=$(( $(now_ms) - start ))
+
+    curl -sf -o /dev/null -H "Authorization: Bearer ${token}" "${BASE_URL}/api/v1/transactions/me"
+    list=$(( $(now_ms) - start ))
+
+    # "Started TransactionServiceApplication in 4.213 seconds (process running for 4.9)"
+    spring=$(sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' "${log}" | awk '{ printf "%d", $1 * 1000 }')
+
+    kill "${pid}" 2>/dev/null || true
+    wait "${pid}" 2>/dev/null || true
+    rm -f "${log}"
+
+    printf '%-4s %10s %10s %10s %12s\n' "${run}" "${port}" "${login}" "${list}" "${spring:--}"
+done
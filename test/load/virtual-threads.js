@@ -0,0 +1,66 @@
+// Throughput comparison between platform-thread and virtual-thread request handling.
+//
+// Start the service once per mode and run the same script against both:
+//
+//   VIRTUAL_THREADS_ENABLED=false java -jar target/transaction-service-1.0.0.jar --spring.profiles.active=prod
+//   k6 run -e MODE=platform test/load/virtual-threads.js
+//
+//   VIRTUAL_THREADS_ENABLED=true java -jar target/transaction-service-1.0.0.jar --spring.profiles.active=prod
+//   k6 run -e MODE=virtual test/load/virtual-threads.js
+//
+// Compare http_reqs (requests/s) and http_req_duration p95/p99 between the two summaries.
+// Above the Tomcat thread count (server.tomcat.threads.max) platform mode queues requests
+// in the acceptor, virtual mode queues them on the connection pool instead.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS / 10 },
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    tags: { mode: __ENV.MODE || 'unknown' },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const customerId = `load-${Date.now()}`;
+    const credentials = JSON.stringify({ customerId, password: 'password123' });
+    const json = { headers: { 'Content-Type': 'application/json' } };
+
+    http.post(`${BASE_URL}/api/v1/auth/register`, credentials, json);
+    const login = http.post(`${BASE_URL}/api/v1/auth/login`, credentials, json);
+    check(login, { 'logged in': (r) => r.status === 200 });
+
+    const token = login.json('token');
+    const auth = { headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${token}` } };
+    for (let i = 0; i < 5; i++) {
+        const iban = `LOAD${Date.now()}${i}`;
+        http.post(`${BASE_URL}/api/v1/accounts?customerId=${customerId}`, JSON.stringify({ iban, currency: 'EUR' }), auth);
+    }
+    return { token };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/v1/accounts/me`, null, params],
+        ['GET', `${BASE_URL}/api/v1/transactions/me`, null, params],
+    ]);
+    responses.forEach((r) => check(r, { 'status is 200': (res) => res.status === 200 }));
+}